@@ -9,10 +9,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
 
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.badRequest;
 import static com.github.tomakehurst.wiremock.client.WireMock.created;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.unauthorized;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
@@ -88,6 +93,40 @@ public class ErrorNotificationClientTest {
         assertThat(throwable).isInstanceOf(FeignException.Unauthorized.class);
     }
 
+    @Test
+    public void should_return_response_for_each_notification_of_the_batch() throws JsonProcessingException {
+        // given
+        var responses = List.of(new ErrorNotificationResponse("id1"), new ErrorNotificationResponse("id2"));
+        stubFor(
+            post(urlPathEqualTo("/notifications/batch"))
+                .withRequestBody(equalToJson(
+                    mapper.writeValueAsString(List.of(TEST_NOTIFICATION_REQUEST, TEST_NOTIFICATION_REQUEST))
+                ))
+                .willReturn(created().withBody(mapper.writeValueAsBytes(responses)))
+        );
+
+        // when
+        List<ErrorNotificationResponse> notificationResponses =
+            secondaryClient.notifyBatch(List.of(TEST_NOTIFICATION_REQUEST, TEST_NOTIFICATION_REQUEST));
+
+        // then
+        assertThat(notificationResponses)
+            .extracting(ErrorNotificationResponse::getNotificationId)
+            .containsExactly("id1", "id2");
+    }
+
+    @Test
+    public void should_return_BadRequest_when_supplier_rejects_the_batch() {
+        // given
+        stubFor(post(urlPathEqualTo("/notifications/batch")).willReturn(badRequest()));
+
+        // when
+        Throwable throwable = catchThrowable(() -> client.notifyBatch(List.of(TEST_NOTIFICATION_REQUEST)));
+
+        // then
+        assertThat(throwable).isInstanceOf(FeignException.BadRequest.class);
+    }
+
     private void stubWithResponse(ResponseDefinitionBuilder builder) {
         stubFor(post("/notifications").willReturn(builder));
     }
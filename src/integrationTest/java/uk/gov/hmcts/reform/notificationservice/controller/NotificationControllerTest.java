@@ -16,8 +16,14 @@ import uk.gov.hmcts.reform.notificationservice.data.Notification;
 import uk.gov.hmcts.reform.notificationservice.data.NotificationStatus;
 import uk.gov.hmcts.reform.notificationservice.exception.NotFoundException;
 import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+import uk.gov.hmcts.reform.notificationservice.model.in.NotificationSearchRequest;
+import uk.gov.hmcts.reform.notificationservice.model.in.NotifyBatchItem;
+import uk.gov.hmcts.reform.notificationservice.model.in.NotifyBatchRequest;
 import uk.gov.hmcts.reform.notificationservice.model.in.NotifyRequest;
 import uk.gov.hmcts.reform.notificationservice.model.out.NotificationInfo;
+import uk.gov.hmcts.reform.notificationservice.model.out.NotificationSearchResponse;
+import uk.gov.hmcts.reform.notificationservice.model.out.NotifyBatchItemInfo;
+import uk.gov.hmcts.reform.notificationservice.model.out.NotifyBatchResponse;
 import uk.gov.hmcts.reform.notificationservice.service.AuthService;
 import uk.gov.hmcts.reform.notificationservice.service.NotificationService;
 
@@ -26,6 +32,9 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
 
 import static java.time.Instant.now;
 import static java.util.Arrays.asList;
@@ -34,6 +43,7 @@ import static java.util.Collections.singletonList;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -135,6 +145,8 @@ public class NotificationControllerTest {
             .andExpect(jsonPath("$.count", is(3)))
             .andExpect(jsonPath("$.sentNotificationsCount", is(2)))
             .andExpect(jsonPath("$.pendingNotificationsCount", is(0)))
+            .andExpect(jsonPath("$.manuallyHandledNotificationsCount", is(1)))
+            .andExpect(jsonPath("$.failedNotificationsCount", is(0)))
             .andExpect(jsonPath("$.notifications", hasSize(3)))
             .andExpect(jsonPath("$.notifications[0].id").isNotEmpty())
             .andExpect(jsonPath("$.notifications[0].id").value(notification1.id))
@@ -457,7 +469,7 @@ public class NotificationControllerTest {
             "invalid metafile1",
             now(),
             now(),
-            SENT.toString()
+            SENT
         );
 
         when(notificationService.findByNotificationId(NOTIFICATION_ID)).thenReturn(notificationInfo);
@@ -511,7 +523,7 @@ public class NotificationControllerTest {
             "invalid signature - gif reactions not allowed",
             Instant.now(),
             Instant.now(),
-            SENT.toString()
+            SENT
         );
 
         when(notificationService.saveNotificationMsg(notificationMsg)).thenReturn(notificationInfo);
@@ -645,7 +657,7 @@ public class NotificationControllerTest {
             "invalid signature - gif reactions not allowed",
             Instant.now(),
             Instant.now(),
-            SENT.toString()
+            SENT
         );
 
         when(notificationService.saveNotificationMsg(notificationMsg)).thenReturn(notificationInfo);
@@ -667,4 +679,179 @@ public class NotificationControllerTest {
             .andExpect(content().string(notificationInfoJson))
             .andReturn();
     }
+
+    @Test
+    void should_search_notifications_of_the_calling_service() throws Exception {
+        var searchRequest = new NotificationSearchRequest(List.of(FILENAME, FILENAME2), List.of("DCN1"), null);
+        var notificationInfo = new NotificationInfo(
+            NOTIFICATION_ID,
+            "confirmation-id-1",
+            FILENAME,
+            "po_box1",
+            "container",
+            SERVICE,
+            "DCN1",
+            ErrorCode.ERR_METAFILE_INVALID.toString(),
+            "invalid metafile1",
+            Instant.parse("2020-03-23T13:17:20.00Z"),
+            null,
+            SENT
+        );
+        given(authService.authenticate(AUTH)).willReturn(SERVICE);
+        given(notificationService.search(searchRequest, SERVICE)).willReturn(
+            new NotificationSearchResponse(1, Map.of(FILENAME, List.of(notificationInfo)))
+        );
+
+        mockMvc.perform(post(PATH + "/search")
+                            .header("ServiceAuthorization", AUTH)
+                            .content("{\"zip_file_names\": [\"" + FILENAME + "\", \"" + FILENAME2 + "\"], "
+                                         + "\"document_control_numbers\": [\"DCN1\"]}")
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.count", is(1)))
+            .andExpect(jsonPath("$.zip_files['" + FILENAME + "']", hasSize(1)))
+            .andExpect(jsonPath("$.zip_files['" + FILENAME + "'][0].id").value(String.valueOf(NOTIFICATION_ID)))
+            .andExpect(jsonPath("$.zip_files['" + FILENAME + "'][0].created_at").value("2020-03-23T13:17:20"));
+    }
+
+    @Test
+    void should_return_400_when_search_request_has_no_values() throws Exception {
+        given(authService.authenticate(AUTH)).willReturn(SERVICE);
+
+        mockMvc.perform(post(PATH + "/search")
+                            .header("ServiceAuthorization", AUTH)
+                            .content("{\"zip_file_names\": []}")
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void should_return_400_when_search_request_has_too_many_values() throws Exception {
+        given(authService.authenticate(AUTH)).willReturn(SERVICE);
+        var ids = LongStream.rangeClosed(1, 501).boxed().toList();
+
+        mockMvc.perform(post(PATH + "/search")
+                            .header("ServiceAuthorization", AUTH)
+                            .content(OBJECT_MAPPER.writeValueAsString(Map.of("notification_ids", ids)))
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void should_save_notification_batch() throws Exception {
+        var notifyRequest = new NotifyRequest(
+            "zip_file_name_123.zip",
+            "civil",
+            "14620",
+            "sscs",
+            "36222789074101144",
+            ErrorCode.ERR_SIG_VERIFY_FAILED,
+            "invalid signature",
+            SERVICE
+        );
+        var batchRequest = new NotifyBatchRequest(List.of(
+            new NotifyBatchItem("key1", notifyRequest),
+            new NotifyBatchItem("key2", notifyRequest)
+        ));
+        given(authService.authenticate(AUTH)).willReturn(SERVICE);
+        given(notificationService.saveNotificationBatch(batchRequest, SERVICE)).willReturn(
+            new NotifyBatchResponse(List.of(
+                new NotifyBatchItemInfo("key1", 10L, NotificationStatus.PENDING, false),
+                new NotifyBatchItemInfo("key2", 5L, SENT, true)
+            ))
+        );
+
+        mockMvc.perform(post(PATH + "/batch")
+                            .header("ServiceAuthorization", AUTH)
+                            .content(OBJECT_MAPPER.writeValueAsString(batchRequest))
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.notifications", hasSize(2)))
+            .andExpect(jsonPath("$.notifications[0].idempotency_key").value("key1"))
+            .andExpect(jsonPath("$.notifications[0].id").value("10"))
+            .andExpect(jsonPath("$.notifications[0].status").value("PENDING"))
+            .andExpect(jsonPath("$.notifications[0].duplicate").value(false))
+            .andExpect(jsonPath("$.notifications[1].id").value("5"))
+            .andExpect(jsonPath("$.notifications[1].duplicate").value(true));
+    }
+
+    @Test
+    void should_return_400_when_idempotency_key_is_repeated_in_batch() throws Exception {
+        var notifyRequest = new NotifyRequest(
+            "zip_file_name_123.zip",
+            null,
+            null,
+            "sscs",
+            null,
+            ErrorCode.ERR_SIG_VERIFY_FAILED,
+            "invalid signature",
+            SERVICE
+        );
+        var batchRequest = new NotifyBatchRequest(List.of(
+            new NotifyBatchItem("key1", notifyRequest),
+            new NotifyBatchItem("key1", notifyRequest)
+        ));
+        given(authService.authenticate(AUTH)).willReturn(SERVICE);
+
+        mockMvc.perform(post(PATH + "/batch")
+                            .header("ServiceAuthorization", AUTH)
+                            .content(OBJECT_MAPPER.writeValueAsString(batchRequest))
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void should_return_400_when_batch_contains_notification_for_another_service() throws Exception {
+        var notifyRequest = new NotifyRequest(
+            "zip_file_name_123.zip",
+            null,
+            null,
+            "sscs",
+            null,
+            ErrorCode.ERR_SIG_VERIFY_FAILED,
+            "invalid signature",
+            SERVICE
+        );
+        var otherServiceRequest = new NotifyRequest(
+            "zip_file_name_123.zip",
+            null,
+            null,
+            "sscs",
+            null,
+            ErrorCode.ERR_SIG_VERIFY_FAILED,
+            "invalid signature",
+            "other_service"
+        );
+        var batchRequest = new NotifyBatchRequest(List.of(
+            new NotifyBatchItem("key1", notifyRequest),
+            new NotifyBatchItem("key2", otherServiceRequest)
+        ));
+        given(authService.authenticate(AUTH)).willReturn(SERVICE);
+
+        mockMvc.perform(post(PATH + "/batch")
+                            .header("ServiceAuthorization", AUTH)
+                            .content(OBJECT_MAPPER.writeValueAsString(batchRequest))
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void should_return_400_when_notification_batch_is_empty() throws Exception {
+        mockMvc.perform(post(PATH + "/batch")
+                            .header("ServiceAuthorization", AUTH)
+                            .content("{\"notifications\": []}")
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.notifications").isNotEmpty());
+
+        verifyNoInteractions(notificationService);
+    }
 }
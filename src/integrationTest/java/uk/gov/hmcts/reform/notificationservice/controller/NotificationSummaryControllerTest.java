@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.notificationservice.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.notificationservice.model.out.NotificationSummaryInfo;
+import uk.gov.hmcts.reform.notificationservice.model.out.NotificationSummaryResponse;
+import uk.gov.hmcts.reform.notificationservice.service.NotificationSummaryService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = NotificationSummaryController.class)
+public class NotificationSummaryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private NotificationSummaryService summaryService;
+
+    @Test
+    void should_get_notification_summary() throws Exception {
+        LocalDate from = LocalDate.of(2024, 5, 1);
+        LocalDate to = LocalDate.of(2024, 5, 2);
+
+        given(summaryService.getSummary(from, to)).willReturn(new NotificationSummaryResponse(
+            from,
+            to,
+            List.of(
+                new NotificationSummaryInfo(from, "bulkscan", "SENT", "ERR_AV_FAILED", "primary", 5),
+                new NotificationSummaryInfo(to, "probate", "PENDING", "ERR_SIG_VERIFY_FAILED", "secondary", 2)
+            )
+        ));
+
+        mockMvc
+            .perform(get("/notifications/summary").queryParam("from", "2024-05-01").queryParam("to", "2024-05-02"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.from").value("2024-05-01"))
+            .andExpect(jsonPath("$.to").value("2024-05-02"))
+            .andExpect(jsonPath("$.total").value(7))
+            .andExpect(jsonPath("$.summary", hasSize(2)))
+            .andExpect(jsonPath("$.summary[0].date").value("2024-05-01"))
+            .andExpect(jsonPath("$.summary[0].service").value("bulkscan"))
+            .andExpect(jsonPath("$.summary[0].status").value("SENT"))
+            .andExpect(jsonPath("$.summary[0].error_code").value("ERR_AV_FAILED"))
+            .andExpect(jsonPath("$.summary[0].client").value("primary"))
+            .andExpect(jsonPath("$.summary[0].count", is(5)))
+            .andExpect(jsonPath("$.summary[1].client").value("secondary"));
+    }
+
+    @Test
+    void should_return_bad_request_when_to_is_before_from() throws Exception {
+        mockMvc
+            .perform(get("/notifications/summary").queryParam("from", "2024-05-02").queryParam("to", "2024-05-01"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(summaryService);
+    }
+
+    @Test
+    void should_return_bad_request_when_range_is_too_long() throws Exception {
+        mockMvc
+            .perform(get("/notifications/summary").queryParam("from", "2022-01-01").queryParam("to", "2024-01-01"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(summaryService);
+    }
+}
@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.notificationservice.data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationArchiveRepository.ArchivedBatch;
+import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class NotificationArchiveRepositoryTest {
+
+    @Autowired NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired NotificationRepository notificationRepository;
+    @Autowired NotificationArchiveRepository archiveRepository;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM notifications", Collections.emptyMap());
+        jdbcTemplate.update("DELETE FROM notifications_archive", Collections.emptyMap());
+    }
+
+    @Test
+    void should_move_old_terminal_notifications_to_archive_in_batches() {
+        // given
+        long sent1 = insertOld();
+        long sent2 = insertOld();
+        long failed = insertOld();
+        long pending = insertOld();
+        notificationRepository.markAsSent(sent1, createdAt(sent1), "c1");
+        notificationRepository.markAsSent(sent2, createdAt(sent2), "c2");
+        notificationRepository.markAsFailure(failed, createdAt(failed));
+        long recentSent = notificationRepository.insert(createNewNotification());
+        notificationRepository.markAsSent(recentSent, createdAt(recentSent), "c3");
+
+        // when
+        ArchivedBatch first = archiveRepository.archiveBatch(90, 0, 2);
+        ArchivedBatch second = archiveRepository.archiveBatch(90, first.lastId(), 2);
+        ArchivedBatch third = archiveRepository.archiveBatch(90, second.lastId(), 2);
+
+        // then
+        assertThat(first).isEqualTo(new ArchivedBatch(2, sent2));
+        assertThat(second).isEqualTo(new ArchivedBatch(1, failed));
+        assertThat(third).isEqualTo(new ArchivedBatch(0, failed));
+
+        assertThat(notificationRepository.find(sent1)).isEmpty();
+        assertThat(notificationRepository.find(failed)).isEmpty();
+        assertThat(notificationRepository.find(pending)).isNotEmpty();
+        assertThat(notificationRepository.find(recentSent)).isNotEmpty();
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT id FROM notifications_archive ORDER BY id", Collections.emptyMap(), Long.class
+        )).isEqualTo(List.of(sent1, sent2, failed));
+    }
+
+    private long insertOld() {
+        long id = notificationRepository.insert(createNewNotification());
+        jdbcTemplate.update(
+            "UPDATE notifications SET created_at = created_at - INTERVAL '100 days' WHERE id = :id",
+            new MapSqlParameterSource("id", id)
+        );
+        return id;
+    }
+
+    private NewNotification createNewNotification() {
+        return new NewNotification(
+            "zip_file_name",
+            "po_box",
+            "bulkscan",
+            "service",
+            "dcn",
+            ErrorCode.ERR_AV_FAILED,
+            "error_description",
+            UUID.randomUUID().toString(),
+            "primary"
+        );
+    }
+
+    private Instant createdAt(long id) {
+        return notificationRepository.find(id).orElseThrow().createdAt;
+    }
+}
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.notificationservice.data;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class NotificationPartitionRepositoryTest {
+
+    @Autowired NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired NotificationPartitionRepository partitionRepository;
+    @Autowired NotificationRepository notificationRepository;
+
+    @Test
+    void should_create_detach_and_list_partitions() {
+        // given
+        YearMonth month = YearMonth.of(2001, 1);
+
+        // when
+        partitionRepository.createPartition(month);
+        partitionRepository.createPartition(month); // no-op when partition exists
+
+        // then
+        assertThat(partitionRepository.findAttachedPartitions())
+            .contains(month, YearMonth.now())
+            .isSorted();
+
+        // when
+        partitionRepository.detachPartition(month);
+
+        // then
+        assertThat(partitionRepository.findAttachedPartitions()).doesNotContain(month);
+    }
+
+    @Test
+    void should_move_notifications_of_the_month_from_default_partition_when_creating_partition() {
+        // given
+        YearMonth month = YearMonth.of(2002, 3);
+        long id = notificationRepository.insert(new NewNotification(
+            "zip_file_name",
+            "po_box",
+            "bulkscan",
+            "service",
+            "dcn",
+            ErrorCode.ERR_AV_FAILED,
+            "error_description",
+            UUID.randomUUID().toString(),
+            NotificationClients.PRIMARY
+        ));
+        // moves the row to the default partition, there is no partition for that month yet
+        jdbcTemplate.update(
+            "UPDATE notifications SET created_at = '2002-03-15 10:00:00' WHERE id = :id",
+            new MapSqlParameterSource("id", id)
+        );
+
+        try {
+            // when
+            partitionRepository.createPartition(month);
+
+            // then
+            assertThat(jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM notifications WHERE id = :id",
+                new MapSqlParameterSource("id", id),
+                String.class
+            )).isEqualTo("notifications_2002_03");
+            assertThat(partitionRepository.findAttachedPartitions()).contains(month);
+        } finally {
+            jdbcTemplate.update("DELETE FROM notifications", Collections.emptyMap());
+            partitionRepository.detachPartition(month);
+        }
+    }
+}
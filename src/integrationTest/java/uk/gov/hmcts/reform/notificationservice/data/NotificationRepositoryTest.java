@@ -11,17 +11,23 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import uk.gov.hmcts.reform.notificationservice.exception.DuplicateMessageIdException;
 import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
 import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.FAILED;
 import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.PENDING;
 import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.SENT;
+import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.UNCONFIRMED;
 
 @SpringBootTest
 public class NotificationRepositoryTest {
@@ -330,11 +336,11 @@ public class NotificationRepositoryTest {
         // valid pending
         long idPending = notificationRepository.insert(newNotification);
         jdbcTemplate.update(
-            "UPDATE notifications SET created_at = (now()::timestamp - interval '65 minutes')",
+            "UPDATE notifications SET dispatch_not_before = (now()::timestamp - interval '5 minutes')",
             new MapSqlParameterSource("id", idPending)
         );
 
-        // record should wait 2 hour before it is picked up
+        // record should wait for the send delay before it is picked up
         notificationRepository.insert(createNewNotification());
 
         // confirmation_id should be null to be picked up
@@ -347,7 +353,7 @@ public class NotificationRepositoryTest {
         jdbcTemplate.update(
             "UPDATE notifications SET status = :sent WHERE id = :id",
             new MapSqlParameterSource()
-                .addValue("sent", SENT.name())
+                .addValue("sent", SENT.code)
                 .addValue("id", idSent)
         );
 
@@ -366,15 +372,215 @@ public class NotificationRepositoryTest {
             });
     }
 
+    @Test
+    void should_not_return_pending_notifications_deferred_until_later() {
+        // given
+        long idDeferred = notificationRepository.insert(createNewNotification());
+        long idRetryDue = notificationRepository.insert(createNewNotification());
+        jdbcTemplate.update(
+            "UPDATE notifications SET dispatch_not_before = (now()::timestamp - interval '5 minutes')",
+            new MapSqlParameterSource()
+        );
+
+        // when
+        boolean deferred =
+            notificationRepository.deferUntil(idDeferred, createdAt(idDeferred), Instant.now().plusSeconds(600));
+        notificationRepository.deferUntil(idRetryDue, createdAt(idRetryDue), Instant.now().minusSeconds(1));
+
+        // then
+        assertThat(deferred).isTrue();
+        assertThat(notificationRepository.findPending())
+            .extracting(notification -> notification.id)
+            .containsExactly(idRetryDue);
+    }
+
+    @Test
+    void should_return_oldest_pending_notifications_of_each_lane_up_to_the_limit() {
+        // given
+        long busy1 = notificationRepository.insert(createNewNotification("zip1", "busy_service", "dcn1"));
+        long busy2 = notificationRepository.insert(createNewNotification("zip2", "busy_service", "dcn2"));
+        notificationRepository.insert(createNewNotification("zip3", "busy_service", "dcn3"));
+        long quiet = notificationRepository.insert(createNewNotification("zip4", "quiet_service", "dcn4"));
+        jdbcTemplate.update(
+            "UPDATE notifications SET dispatch_not_before = (now()::timestamp - interval '5 minutes')",
+            new MapSqlParameterSource()
+        );
+
+        // when
+        var notifications = notificationRepository.findPending(2);
+
+        // then
+        assertThat(notifications)
+            .extracting(notification -> notification.id)
+            .containsExactly(busy1, busy2, quiet);
+        assertThat(notificationRepository.findPendingLaneBacklog())
+            .extracting(lane -> lane.service, lane -> lane.count)
+            .containsExactly(tuple("busy_service", 3L), tuple("quiet_service", 1L));
+    }
+
+    @Test
+    void should_return_pending_notifications_with_higher_priority_first() {
+        // given
+        long rescan = notificationRepository.insert(new NewNotification(
+            "zip1",
+            "po_box",
+            "bulkscan",
+            "service",
+            "dcn1",
+            ErrorCode.ERR_RESCAN_REQUIRED,
+            "error_description",
+            UUID.randomUUID().toString(),
+            PRIMARY_CLIENT
+        ));
+        long avFailed = notificationRepository.insert(createNewNotification("zip2", "service", "dcn2"));
+        jdbcTemplate.update(
+            "UPDATE notifications SET dispatch_not_before = (now()::timestamp - interval '5 minutes')",
+            new MapSqlParameterSource()
+        );
+
+        // when
+        var notifications = notificationRepository.findPending(1);
+
+        // then
+        assertThat(notifications)
+            .extracting(notification -> notification.id, notification -> notification.priority)
+            .containsExactly(tuple(avFailed, 2));
+        assertThat(notificationRepository.findPending(10))
+            .extracting(notification -> notification.id)
+            .containsExactly(avFailed, rescan);
+    }
+
+    @Test
+    void should_return_pending_notification_straight_away_when_its_service_has_no_send_delay() {
+        // given
+        long noDelay = notificationRepository.insert(createNewNotification("zip1", "no_delay_service", "dcn1"));
+        notificationRepository.insert(createNewNotification("zip2", "service", "dcn2"));
+
+        // when
+        var notifications = notificationRepository.findPending();
+
+        // then
+        assertThat(notifications)
+            .extracting(notification -> notification.id)
+            .containsExactly(noDelay);
+    }
+
+    @Test
+    void should_find_due_pending_notifications_with_given_fingerprints() {
+        // given
+        long first = notificationRepository.insert(createNewNotification("zip1", "service", "dcn1"));
+        long second = notificationRepository.insert(createNewNotification("zip1", "service", "dcn2"));
+        long sent = notificationRepository.insert(createNewNotification("zip1", "service", "dcn3"));
+        notificationRepository.markAsSent(sent, createdAt(sent), "confirmation-id");
+        notificationRepository.insert(createNewNotification("zip2", "service", "dcn4"));
+        jdbcTemplate.update(
+            "UPDATE notifications SET dispatch_not_before = (now()::timestamp - interval '5 minutes')",
+            Collections.emptyMap()
+        );
+        // not due yet
+        notificationRepository.insert(createNewNotification("zip1", "service", "dcn5"));
+
+        // when
+        var notifications = notificationRepository.findPendingByFingerprints(
+            List.of(NotificationFingerprint.of("zip1", ErrorCode.ERR_AV_FAILED, "service"))
+        );
+
+        // then
+        assertThat(notifications)
+            .extracting(notification -> notification.id)
+            .containsExactly(first, second);
+    }
+
+    @Test
+    void should_check_whether_notification_exists_for_message_id() {
+        // given
+        var newNotification = createNewNotification();
+        notificationRepository.insert(newNotification);
+
+        // when
+        // then
+        assertThat(notificationRepository.existsByMessageId(newNotification.messageId)).isTrue();
+        assertThat(notificationRepository.existsByMessageId(UUID.randomUUID().toString())).isFalse();
+    }
+
+    @Test
+    void should_find_pending_backlog_per_client() {
+        // given
+        long duePrimary = notificationRepository.insert(createNewNotification());
+        jdbcTemplate.update(
+            "UPDATE notifications SET dispatch_not_before = (now()::timestamp - interval '5 minutes') WHERE id = :id",
+            new MapSqlParameterSource("id", duePrimary)
+        );
+        notificationRepository.insert(createNewNotification());
+        long sent = notificationRepository.insert(createNewNotification());
+        notificationRepository.markAsSent(sent, createdAt(sent), "confirmation-id");
+        notificationRepository.insert(new NewNotification(
+            "zip_file_name",
+            "po_box",
+            "bulkscan",
+            "service",
+            "dcn",
+            ErrorCode.ERR_AV_FAILED,
+            "error_description",
+            UUID.randomUUID().toString(),
+            NotificationClients.SECONDARY
+        ));
+
+        // when
+        List<PendingBacklog> backlog = notificationRepository.findPendingBacklog();
+
+        // then
+        assertThat(backlog)
+            .extracting(b -> b.client, b -> b.count)
+            .containsExactly(
+                tuple(NotificationClients.PRIMARY, 2L),
+                tuple(NotificationClients.SECONDARY, 1L)
+            );
+        // lag is measured from the moment notifications become due, not from their creation
+        assertThat(backlog.get(0).oldestDueAt).isBefore(Instant.now());
+        assertThat(backlog.get(1).oldestDueAt).isAfter(Instant.now());
+    }
+
+    @Test
+    void should_find_pending_backlog_without_oldest_due_time_when_dispatch_time_is_not_set() {
+        // given
+        long id = notificationRepository.insert(createNewNotification());
+        jdbcTemplate.update(
+            "UPDATE notifications SET dispatch_not_before = NULL WHERE id = :id",
+            new MapSqlParameterSource("id", id)
+        );
+
+        // when
+        List<PendingBacklog> backlog = notificationRepository.findPendingBacklog();
+
+        // then
+        assertThat(backlog)
+            .extracting(b -> b.client, b -> b.count, b -> b.oldestDueAt)
+            .containsExactly(tuple(NotificationClients.PRIMARY, 1L, null));
+    }
+
     @Test //TODO: FACT-2026
     void should_return_flag_false_when_mark_as_sent_did_not_find_any_notification_to_update() {
         // when
-        boolean isMarked = notificationRepository.markAsSent(1_000, "foo");
+        boolean isMarked = notificationRepository.markAsSent(1_000, Instant.now(), "foo");
 
         // then
         assertThat(isMarked).isFalse();
     }
 
+    @Test
+    void should_mark_notification_as_sent_when_created_at_is_shifted_by_time_zone_offset() {
+        // given
+        long id = notificationRepository.insert(createNewNotification());
+
+        // when created_at went through a JVM time zone other than the one of the database
+        boolean isMarked = notificationRepository.markAsSent(id, createdAt(id).minus(Duration.ofHours(5)), "foo");
+
+        // then
+        assertThat(isMarked).isTrue();
+        assertThat(notificationRepository.find(id)).get().extracting(n -> n.status).isEqualTo(SENT);
+    }
+
     @Test //TODO: FACT-2026
     void should_return_flag_true_when_mark_as_sent_was_successful() {
         // given
@@ -382,7 +588,7 @@ public class NotificationRepositoryTest {
         String confirmationId = "aisjdaoisd";
 
         // when
-        boolean isMarked = notificationRepository.markAsSent(id, confirmationId);
+        boolean isMarked = notificationRepository.markAsSent(id, createdAt(id), confirmationId);
 
         // then
         assertThat(isMarked).isTrue();
@@ -401,7 +607,7 @@ public class NotificationRepositoryTest {
     @Test //TODO: FACT-2026
     void should_return_flag_false_when_mark_as_failure_did_not_find_any_notification_to_update() {
         // when
-        boolean isMarked = notificationRepository.markAsFailure(1_000);
+        boolean isMarked = notificationRepository.markAsFailure(1_000, Instant.now());
 
         // then
         assertThat(isMarked).isFalse();
@@ -413,7 +619,7 @@ public class NotificationRepositoryTest {
         long id = notificationRepository.insert(createNewNotification());
 
         // when
-        boolean isMarked = notificationRepository.markAsFailure(id);
+        boolean isMarked = notificationRepository.markAsFailure(id, createdAt(id));
 
         // then
         assertThat(isMarked).isTrue();
@@ -428,6 +634,27 @@ public class NotificationRepositoryTest {
             });
     }
 
+    @Test
+    void should_mark_notification_as_unconfirmed_and_leave_it_out_of_pending() {
+        // given
+        long id = notificationRepository.insert(createNewNotification());
+
+        // when
+        boolean isMarked = notificationRepository.markAsUnconfirmed(id, createdAt(id));
+
+        // then
+        assertThat(isMarked).isTrue();
+        assertThat(notificationRepository.find(id))
+            .isNotEmpty()
+            .get()
+            .satisfies(notification -> {
+                assertThat(notification.status).isEqualTo(UNCONFIRMED);
+                assertThat(notification.processedAt).isNotNull();
+            });
+        assertThat(notificationRepository.findPending()).extracting(notification -> notification.id)
+            .doesNotContain(id);
+    }
+
     @Test
     void should_find_notification_by_date() {
         // given
@@ -580,7 +807,8 @@ public class NotificationRepositoryTest {
             .extracting("status")
             .isNotEqualTo(FAILED);
 
-        assertThat(notificationRepository.updateNotificationStatusAsFail(notificationId))
+        Instant createdAt = createdAt(notificationId);
+        assertThat(notificationRepository.updateNotificationStatusAsFail(notificationId, createdAt))
             .extracting("status")
             .isEqualTo(FAILED);
 
@@ -596,11 +824,94 @@ public class NotificationRepositoryTest {
             .extracting("status")
             .isNotEqualTo(SENT);
 
-        assertThat(notificationRepository.updateNotificationStatusAsSent(notificationId, "exela"))
+        Instant createdAt = createdAt(notificationId);
+        assertThat(notificationRepository.updateNotificationStatusAsSent(notificationId, createdAt, "exela"))
             .extracting("status")
             .isEqualTo(SENT);
     }
 
+    @Test
+    void should_search_notifications_by_zip_file_names_dcns_and_ids() {
+        // given
+        long byZipFileName = notificationRepository.insert(createNewNotification("a.zip", "service", "dcn1"));
+        long byDcn = notificationRepository.insert(createNewNotification("b.zip", "service", "dcn2"));
+        long byId = notificationRepository.insert(createNewNotification("c.zip", "service", "dcn3"));
+        notificationRepository.insert(createNewNotification("d.zip", "service", "dcn4"));
+        notificationRepository.insert(createNewNotification("a.zip", "other_service", "dcn1"));
+        var found = new ArrayList<Notification>();
+
+        // when
+        notificationRepository.search(
+            "service",
+            List.of("c.zip", "a.zip", "missing.zip"),
+            List.of("dcn2"),
+            List.of(byId),
+            found::add
+        );
+
+        // then
+        assertThat(found)
+            .extracting(n -> n.id, n -> n.zipFileName, n -> n.service)
+            .containsExactly(
+                tuple(byZipFileName, "a.zip", "service"),
+                tuple(byDcn, "b.zip", "service"),
+                tuple(byId, "c.zip", "service")
+            );
+    }
+
+    @Test
+    void should_find_nothing_when_searching_with_empty_lists() {
+        // given
+        notificationRepository.insert(createNewNotification());
+        var found = new ArrayList<Notification>();
+
+        // when
+        notificationRepository.search("service", List.of(), List.of(), List.of(), found::add);
+
+        // then
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    void should_insert_all_notifications_as_pending_in_one_go() {
+        // given
+        var first = createNewNotification("a.zip", "service", "dcn1", "batch:service:key1");
+        var second = createNewNotification("b.zip", "service", "dcn2", "batch:service:key2");
+
+        // when
+        Map<String, Long> ids = notificationRepository.insertAll(List.of(first, second));
+
+        // then
+        assertThat(ids).containsOnlyKeys("batch:service:key1", "batch:service:key2");
+        assertThat(notificationRepository.findByMessageIds(List.of("batch:service:key2", "batch:service:key1")))
+            .extracting(n -> n.id, n -> n.zipFileName, n -> n.documentControlNumber, n -> n.status, n -> n.client)
+            .containsExactly(
+                tuple(ids.get("batch:service:key1"), "a.zip", "dcn1", PENDING, PRIMARY_CLIENT),
+                tuple(ids.get("batch:service:key2"), "b.zip", "dcn2", PENDING, PRIMARY_CLIENT)
+            );
+        // no send delay, notifications submitted through the API are due straight away
+        assertThat(notificationRepository.findPending()).extracting(n -> n.id)
+            .containsExactlyInAnyOrderElementsOf(ids.values());
+    }
+
+    private NewNotification createNewNotification(String zipFileName, String service, String dcn) {
+        return createNewNotification(zipFileName, service, dcn, UUID.randomUUID().toString());
+    }
+
+    private NewNotification createNewNotification(String zipFileName, String service, String dcn, String messageId) {
+        return new NewNotification(
+            zipFileName,
+            "po_box",
+            "bulkscan",
+            service,
+            dcn,
+            ErrorCode.ERR_AV_FAILED,
+            "error_description",
+            messageId,
+            PRIMARY_CLIENT
+        );
+    }
+
     private NewNotification createNewNotification() {
         return new NewNotification(
             "zip_file_name",
@@ -614,4 +925,8 @@ public class NotificationRepositoryTest {
             PRIMARY_CLIENT
         );
     }
+
+    private Instant createdAt(long id) {
+        return notificationRepository.find(id).orElseThrow().createdAt;
+    }
 }
@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.notificationservice.data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.PENDING;
+import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.SENT;
+
+@SpringBootTest
+public class NotificationSummaryRepositoryTest {
+
+    @Autowired NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired NotificationRepository notificationRepository;
+    @Autowired NotificationSummaryRepository summaryRepository;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM notifications", Collections.emptyMap());
+        jdbcTemplate.update("DELETE FROM notification_daily_summary", Collections.emptyMap());
+    }
+
+    @Test
+    void should_count_notifications_by_date_service_status_error_code_and_client() {
+        // given
+        LocalDate today = LocalDate.now();
+        long sent = notificationRepository.insert(newNotification("bulkscan", ErrorCode.ERR_AV_FAILED));
+        notificationRepository.insert(newNotification("bulkscan", ErrorCode.ERR_AV_FAILED));
+        notificationRepository.insert(newNotification("bulkscan", ErrorCode.ERR_AV_FAILED));
+        notificationRepository.insert(newNotification("probate", ErrorCode.ERR_ZIP_PROCESSING_FAILED));
+        notificationRepository.markAsSent(sent, createdAt(sent), "confirmation-id");
+
+        // when
+        summaryRepository.refresh(today);
+        summaryRepository.refresh(today); // recalculating replaces the existing rows
+
+        // then
+        assertThat(summaryRepository.find(today, today))
+            .extracting(s -> tuple(s.date, s.service, s.status, s.errorCode, s.client, s.count))
+            .containsExactly(
+                tuple(today, "bulkscan", PENDING, ErrorCode.ERR_AV_FAILED, "primary", 2L),
+                tuple(today, "bulkscan", SENT, ErrorCode.ERR_AV_FAILED, "primary", 1L),
+                tuple(today, "probate", PENDING, ErrorCode.ERR_ZIP_PROCESSING_FAILED, "primary", 1L)
+            );
+        assertThat(summaryRepository.find(today.minusDays(2), today.minusDays(1))).isEmpty();
+    }
+
+    private NewNotification newNotification(String service, ErrorCode errorCode) {
+        return new NewNotification(
+            "zip_file_name",
+            "po_box",
+            "bulkscan",
+            service,
+            "dcn",
+            errorCode,
+            "error_description",
+            UUID.randomUUID().toString(),
+            "primary"
+        );
+    }
+
+    private Instant createdAt(long id) {
+        return notificationRepository.find(id).orElseThrow().createdAt;
+    }
+}
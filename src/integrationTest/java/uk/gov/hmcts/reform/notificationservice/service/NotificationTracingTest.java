@@ -0,0 +1,149 @@
+package uk.gov.hmcts.reform.notificationservice.service;
+
+import com.azure.core.util.BinaryData;
+import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
+import com.azure.messaging.servicebus.ServiceBusReceivedMessageContext;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import uk.gov.hmcts.reform.notificationservice.data.NewNotification;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationClients;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationRepository;
+import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.created;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@AutoConfigureObservability(metrics = false)
+@AutoConfigureWireMock(port = 0)
+@SpringBootTest(properties = {
+    "clients.error-notifications.url=http://localhost:${wiremock.server.port}",
+    "clients.error-notifications.secondary.url=http://localhost:${wiremock.server.port}",
+    "management.tracing.sampling.probability=1.0"
+})
+class NotificationTracingTest {
+
+    private static final AttributeKey<String> NOTIFICATION_ID = AttributeKey.stringKey("notification.id");
+    private static final AttributeKey<String> MESSAGE_ID = AttributeKey.stringKey("messaging.message.id");
+
+    @Autowired private NotificationService notificationService;
+    @Autowired private NotificationMessageProcessor notificationMessageProcessor;
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired private SdkTracerProvider tracerProvider;
+    @Autowired private InMemorySpanExporter spanExporter;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM notifications", new MapSqlParameterSource());
+        spanExporter.reset();
+    }
+
+    @Test
+    void should_trace_supplier_call_and_propagate_context_to_supplier() {
+        // given
+        stubFor(post("/notifications").willReturn(
+            created().withHeader("Content-Type", "application/json").withBody("{\"notification_id\": \"conf-id\"}")
+        ));
+        long id = notificationRepository.insert(new NewNotification(
+            "zip_file_name",
+            "po_box",
+            "bulkscan",
+            "service",
+            "dcn",
+            ErrorCode.ERR_AV_FAILED,
+            "error_description",
+            UUID.randomUUID().toString(),
+            NotificationClients.PRIMARY
+        ));
+        jdbcTemplate.update(
+            "UPDATE notifications SET dispatch_not_before = (now()::timestamp - interval '5 minutes') WHERE id = :id",
+            new MapSqlParameterSource("id", id)
+        );
+
+        // when
+        notificationService.processPendingNotifications(Clock.systemUTC());
+
+        // then
+        SpanData notifySpan = findSpan("notify supplier");
+        assertThat(notifySpan.getAttributes().get(NOTIFICATION_ID)).isEqualTo(String.valueOf(id));
+        assertThat(exportedSpans())
+            .anySatisfy(span -> assertThat(span.getParentSpanId()).isEqualTo(notifySpan.getSpanId()));
+        verify(
+            postRequestedFor(urlEqualTo("/notifications"))
+                .withHeader("traceparent", containing(notifySpan.getTraceId()))
+        );
+    }
+
+    @Test
+    void should_trace_message_processing_with_message_and_notification_ids() {
+        // given
+        ServiceBusReceivedMessage message = mock(ServiceBusReceivedMessage.class);
+        ServiceBusReceivedMessageContext messageContext = mock(ServiceBusReceivedMessageContext.class);
+        given(messageContext.getMessage()).willReturn(message);
+        given(message.getMessageId()).willReturn("message-id");
+        given(message.getBody()).willReturn(BinaryData.fromString(
+            "{\"zip_file_name\": \"zip_file_name\", \"po_box\": \"po_box\", \"error_code\": \"ERR_AV_FAILED\", "
+                + "\"error_description\": \"error_description\", \"service\": \"service\"}"
+        ));
+
+        // when
+        notificationMessageProcessor.processNextMessage(messageContext);
+
+        // then
+        SpanData processSpan = findSpan("process notification message");
+        assertThat(processSpan.getAttributes().get(MESSAGE_ID)).isEqualTo("message-id");
+        assertThat(processSpan.getAttributes().get(NOTIFICATION_ID))
+            .isEqualTo(String.valueOf(notificationRepository.findByZipFileName("zip_file_name").get(0).id));
+        // insert statement is traced as part of message processing
+        assertThat(exportedSpans())
+            .filteredOn(span -> span.getName().equals("query"))
+            .anySatisfy(span -> assertThat(span.getTraceId()).isEqualTo(processSpan.getTraceId()));
+    }
+
+    private SpanData findSpan(String name) {
+        return exportedSpans()
+            .stream()
+            .filter(span -> span.getName().equals(name))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("Span not exported: " + name));
+    }
+
+    private List<SpanData> exportedSpans() {
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        return spanExporter.getFinishedSpanItems();
+    }
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+}
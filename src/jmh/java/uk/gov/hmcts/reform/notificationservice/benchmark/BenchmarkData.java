@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.notificationservice.benchmark;
+
+import uk.gov.hmcts.reform.notificationservice.data.Notification;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationClients;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationStatus;
+import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Sample data shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    static final Instant CREATED_AT = Instant.parse("2024-03-31T00:59:59Z");
+    static final Instant PROCESSED_AT = Instant.parse("2024-10-27T01:30:00Z");
+
+    static final String MESSAGE = "{"
+        + "\"zip_file_name\":\"1234567890123456_24-06-2020-12-28-19.zip\","
+        + "\"jurisdiction\":\"divorce\","
+        + "\"po_box\":\"12625\","
+        + "\"container\":\"divorce\","
+        + "\"document_control_number\":\"1234567890123456\","
+        + "\"error_code\":\"ERR_AV_FAILED\","
+        + "\"error_description\":\"Antivirus scan failed for the envelope\","
+        + "\"service\":\"bulkscan\""
+        + "}";
+
+    private BenchmarkData() {
+        // utility class
+    }
+
+    static Notification notification(long id) {
+        return new Notification(
+            id,
+            "confirmation-id-" + id,
+            "1234567890123456_24-06-2020-12-28-19.zip",
+            "12625",
+            "divorce",
+            "bulkscan",
+            "1234567890123456",
+            ErrorCode.ERR_AV_FAILED,
+            "Antivirus scan failed for the envelope",
+            CREATED_AT,
+            id % 2 == 0 ? PROCESSED_AT : null,
+            id % 2 == 0 ? NotificationStatus.SENT : NotificationStatus.PENDING,
+            "message-id-" + id,
+            NotificationClients.PRIMARY
+        );
+    }
+
+    static List<Notification> notifications(int count) {
+        return IntStream.range(0, count).mapToObj(BenchmarkData::notification).toList();
+    }
+
+    /**
+     * Creates a read-only result set positioned on a single notification row.
+     * Only the getters used by the row mapper are supported.
+     */
+    static ResultSet notificationRow() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 1L);
+        row.put("confirmation_id", "confirmation-id-1");
+        row.put("zip_file_name", "1234567890123456_24-06-2020-12-28-19.zip");
+        row.put("po_box", "12625");
+        row.put("container", "divorce");
+        row.put("service", "bulkscan");
+        row.put("document_control_number", "1234567890123456");
+        row.put("error_code", ErrorCode.ERR_AV_FAILED.code);
+        row.put("error_description", "Antivirus scan failed for the envelope");
+        row.put("created_at", Timestamp.from(CREATED_AT));
+        row.put("processed_at", Timestamp.from(PROCESSED_AT));
+        row.put("status", NotificationStatus.SENT.code);
+        row.put("message_id", "message-id-1");
+        row.put("client", NotificationClients.toCode(NotificationClients.PRIMARY));
+
+        return (ResultSet) Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                Object value = args != null && args[0] instanceof String column ? row.get(column) : null;
+                return switch (method.getName()) {
+                    case "getLong" -> value == null ? 0L : ((Number) value).longValue();
+                    case "getInt" -> value == null ? 0 : ((Number) value).intValue();
+                    case "getShort" -> value == null ? (short) 0 : ((Number) value).shortValue();
+                    case "getString", "getTimestamp", "getObject" -> value;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                };
+            }
+        );
+    }
+}
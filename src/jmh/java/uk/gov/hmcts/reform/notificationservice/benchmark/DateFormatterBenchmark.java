@@ -0,0 +1,69 @@
+package uk.gov.hmcts.reform.notificationservice.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.notificationservice.util.DateFormatter;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats a batch of instants the way a date query response does. The "dst" mode alternates instants on both
+ * sides of the October 2020 clock change, so the cached offset period is replaced on every call.
+ */
+@State(Scope.Benchmark)
+public class DateFormatterBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"same_period", "dst"})
+    public String mode;
+
+    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private final char[] buffer = new char[DateFormatter.MAX_FORMATTED_LENGTH];
+    private Instant[] instants;
+
+    @Setup
+    public void setUp() {
+        Instant clockChange = Instant.parse("2020-10-25T01:00:00Z");
+        instants = new Instant[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            instants[i] = "dst".equals(mode)
+                ? clockChange.plusSeconds(i % 2 == 0 ? -i - 1 : i)
+                : Instant.parse("2020-06-15T10:00:00Z").plusSeconds(i * 37L);
+        }
+    }
+
+    @Benchmark
+    public int formatWithZonedDateTime() {
+        // previous implementation, resolves the zone for every instant
+        int length = 0;
+        for (Instant instant : instants) {
+            length += formatter.format(ZonedDateTime.ofInstant(instant, ZoneId.of("Europe/London"))).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int formatToString() {
+        int length = 0;
+        for (Instant instant : instants) {
+            length += DateFormatter.getSimpleDateTime(instant).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int formatToBuffer() {
+        int length = 0;
+        for (Instant instant : instants) {
+            length += DateFormatter.format(instant, buffer);
+        }
+        return length;
+    }
+}
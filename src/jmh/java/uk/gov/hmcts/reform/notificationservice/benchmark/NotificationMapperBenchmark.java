@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.notificationservice.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.notificationservice.data.Notification;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+@State(Scope.Benchmark)
+public class NotificationMapperBenchmark {
+
+    private final NotificationMapper mapper = new NotificationMapper();
+    private ResultSet resultSet;
+
+    @Setup
+    public void setUp() {
+        resultSet = BenchmarkData.notificationRow();
+    }
+
+    @Benchmark
+    public Notification mapRow() throws SQLException {
+        return mapper.mapRow(resultSet, 0);
+    }
+}
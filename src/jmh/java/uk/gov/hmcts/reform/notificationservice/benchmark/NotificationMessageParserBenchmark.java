@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.notificationservice.benchmark;
+
+import com.azure.core.util.BinaryData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.notificationservice.model.in.NotificationMsg;
+import uk.gov.hmcts.reform.notificationservice.service.NotificationMessageParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streaming parse compared with data-binding (from bytes and via String, the way messages used to be parsed).
+ * See gc.alloc.rate.norm for allocations.
+ */
+@State(Scope.Benchmark)
+public class NotificationMessageParserBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ObjectReader reader;
+    private NotificationMessageParser parser;
+    private BinaryData message;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        reader = objectMapper.readerFor(NotificationMsg.class);
+        parser = new NotificationMessageParser(objectMapper);
+        message = BinaryData.fromBytes(BenchmarkData.MESSAGE.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public NotificationMsg parse() {
+        return parser.parse(message);
+    }
+
+    @Benchmark
+    public NotificationMsg parseDataBinding() throws IOException {
+        return reader.readValue(message.toBytes());
+    }
+
+    @Benchmark
+    public NotificationMsg parseViaString() throws IOException {
+        return objectMapper.readValue(message.toString(), NotificationMsg.class);
+    }
+}
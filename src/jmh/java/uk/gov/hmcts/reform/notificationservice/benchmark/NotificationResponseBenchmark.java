@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.notificationservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.notificationservice.data.Notification;
+import uk.gov.hmcts.reform.notificationservice.model.out.NotificationInfo;
+import uk.gov.hmcts.reform.notificationservice.model.out.NotificationsResponse;
+import uk.gov.hmcts.reform.notificationservice.util.NotificationConverter;
+
+import java.util.List;
+
+/**
+ * Covers the read endpoints: converting notifications, building the response (including the status counts)
+ * and serialising it, which goes through {@code CustomInstantSerializer} for every date.
+ */
+@State(Scope.Benchmark)
+public class NotificationResponseBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Notification notification;
+    private List<Notification> notifications;
+    private List<NotificationInfo> notificationInfos;
+    private NotificationsResponse response;
+
+    @Setup
+    public void setUp() {
+        notification = BenchmarkData.notification(2);
+        notifications = BenchmarkData.notifications(size);
+        notificationInfos = notifications.stream().map(NotificationConverter::toNotificationResponse).toList();
+        response = new NotificationsResponse(notificationInfos);
+    }
+
+    @Benchmark
+    public NotificationInfo toNotificationResponse() {
+        return NotificationConverter.toNotificationResponse(notification);
+    }
+
+    @Benchmark
+    public NotificationsResponse createNotificationsResponse() {
+        return new NotificationsResponse(notificationInfos);
+    }
+
+    @Benchmark
+    public byte[] serialiseNotificationsResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] convertAndSerialise() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new NotificationsResponse(
+            notifications.stream().map(NotificationConverter::toNotificationResponse).toList()
+        ));
+    }
+}
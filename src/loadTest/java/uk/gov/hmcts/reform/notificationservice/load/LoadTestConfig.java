@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.notificationservice.load;
+
+import com.azure.messaging.servicebus.ServiceBusProcessorClient;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import uk.gov.hmcts.reform.authorisation.validators.AuthTokenValidator;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@TestConfiguration
+class LoadTestConfig {
+
+    // Service Bus intake is replaced by the JMS (ActiveMQ) path
+    @Bean
+    ServiceBusProcessorClient notificationMessageReceiver() {
+        return mock(ServiceBusProcessorClient.class);
+    }
+
+    @Bean
+    AuthTokenValidator tokenValidator() {
+        AuthTokenValidator validator = mock(AuthTokenValidator.class);
+        given(validator.getServiceName(any())).willReturn("bulkscan");
+        return validator;
+    }
+}
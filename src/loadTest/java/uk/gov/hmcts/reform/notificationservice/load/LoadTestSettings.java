@@ -0,0 +1,40 @@
+package uk.gov.hmcts.reform.notificationservice.load;
+
+import java.time.Duration;
+
+/**
+ * Load test parameters, overridable with {@code -Dload.<name>=<value>} when running {@code ./gradlew loadTest}.
+ */
+final class LoadTestSettings {
+
+    // messages per second put on the JMS queue
+    final int jmsRatePerSecond = intProperty("jmsRatePerSecond", 50);
+    // requests per second sent to POST /notifications
+    final int httpRatePerSecond = intProperty("httpRatePerSecond", 10);
+    final Duration duration = Duration.ofSeconds(intProperty("durationSeconds", 60));
+    // how long to wait for the backlog to be dispatched once intake stops
+    final Duration drainTimeout = Duration.ofSeconds(intProperty("drainTimeoutSeconds", 120));
+    // supplier latency follows log-normal distribution with given median
+    final int supplierMedianLatencyMs = intProperty("supplierMedianLatencyMs", 150);
+    final double supplierLatencySigma = doubleProperty("supplierLatencySigma", 0.4);
+    // share of supplier calls failing with 503
+    final double supplierErrorRate = doubleProperty("supplierErrorRate", 0.02);
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("load." + name, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        return Double.parseDouble(System.getProperty("load." + name, String.valueOf(defaultValue)));
+    }
+
+    @Override
+    public String toString() {
+        return "jmsRatePerSecond=" + jmsRatePerSecond
+            + ", httpRatePerSecond=" + httpRatePerSecond
+            + ", duration=" + duration
+            + ", supplierMedianLatencyMs=" + supplierMedianLatencyMs
+            + ", supplierLatencySigma=" + supplierLatencySigma
+            + ", supplierErrorRate=" + supplierErrorRate;
+    }
+}
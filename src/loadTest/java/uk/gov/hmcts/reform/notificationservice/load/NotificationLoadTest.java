@@ -0,0 +1,359 @@
+package uk.gov.hmcts.reform.notificationservice.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.activemq.ActiveMQContainer;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationStatus;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import javax.sql.DataSource;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Drives the JMS intake path and {@code POST /notifications} at fixed rates against a WireMock supplier
+ * with log-normal latency and injected faults, then reports intake and dispatch throughput,
+ * end-to-end latency percentiles and connection pool saturation.
+ * Report is written to {@code build/reports/load-test/report.json}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(LoadTestConfig.class)
+class NotificationLoadTest {
+
+    private static final Logger log = getLogger(NotificationLoadTest.class);
+
+    private static final String JMS_PREFIX = "load-jms-";
+    private static final String HTTP_PREFIX = "load-http-";
+    private static final Path REPORT = Path.of("build", "reports", "load-test", "report.json");
+
+    private static final LoadTestSettings SETTINGS = new LoadTestSettings();
+
+    private static final ActiveMQContainer ACTIVE_MQ = new ActiveMQContainer("apache/activemq-classic:5.18.3");
+    private static final WireMockServer SUPPLIER = new WireMockServer(
+        options()
+            .dynamicPort()
+            .containerThreads(200)
+            .extensions(new RandomFaultTransformer(SETTINGS.supplierErrorRate))
+    );
+
+    static {
+        ACTIVE_MQ.start();
+        SUPPLIER.start();
+        SUPPLIER.stubFor(
+            post(urlEqualTo("/notifications"))
+                .willReturn(
+                    aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"notification_id\":\"load-test\"}")
+                        .withLogNormalRandomDelay(SETTINGS.supplierMedianLatencyMs, SETTINGS.supplierLatencySigma)
+                )
+        );
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JmsTemplate jmsTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<Long> httpLatenciesInMs = Collections.synchronizedList(new ArrayList<>());
+    private final Map<Integer, AtomicInteger> httpStatuses = new ConcurrentHashMap<>();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("clients.error-notifications.url", SUPPLIER::baseUrl);
+        registry.add("clients.error-notifications.secondary.url", SUPPLIER::baseUrl);
+        registry.add("jms.amqp-connection-string-template", ACTIVE_MQ::getBrokerUrl);
+        registry.add("jms.username", ACTIVE_MQ::getUser);
+        registry.add("jms.password", ACTIVE_MQ::getPassword);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        SUPPLIER.stop();
+        ACTIVE_MQ.stop();
+    }
+
+    @Test
+    void should_report_throughput_latency_and_pool_saturation() throws Exception {
+        log.info("Load test settings: {}", SETTINGS);
+
+        PoolSampler poolSampler = new PoolSampler(dataSource.unwrap(HikariDataSource.class));
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(poolSampler::sample, 0, 100, TimeUnit.MILLISECONDS);
+
+        // when
+        long intakeStart = System.currentTimeMillis();
+        int jmsSent;
+        int httpSent;
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            Thread jms = Thread.ofPlatform()
+                .start(() -> pace(SETTINGS.jmsRatePerSecond, senders, this::sendJmsMessage));
+            Thread http = Thread.ofPlatform()
+                .start(() -> pace(SETTINGS.httpRatePerSecond, senders, this::sendRequest));
+            jms.join();
+            http.join();
+            jmsSent = expectedCount(SETTINGS.jmsRatePerSecond);
+            httpSent = expectedCount(SETTINGS.httpRatePerSecond);
+        }
+        long intakeEnd = System.currentTimeMillis();
+
+        boolean drained = waitForDispatch(jmsSent);
+        sampler.shutdownNow();
+
+        // then
+        Map<String, Object> report = report(jmsSent, httpSent, intakeEnd - intakeStart, drained, poolSampler);
+        Files.createDirectories(REPORT.getParent());
+        String json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(report);
+        Files.writeString(REPORT, json);
+        log.info("Load test report written to {}", REPORT.toAbsolutePath());
+
+        assertThat(count(JMS_PREFIX, null)).as("all queued messages are stored").isEqualTo(jmsSent);
+    }
+
+    private static int expectedCount(int ratePerSecond) {
+        return (int) (ratePerSecond * SETTINGS.duration.toSeconds());
+    }
+
+    /**
+     * Starts {@code action} at a fixed rate, independently of how long each action takes.
+     */
+    private static void pace(int ratePerSecond, ExecutorService executor, IntConsumer action) {
+        int total = expectedCount(ratePerSecond);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(ratePerSecond, 1);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < total; i++) {
+            long waitNanos = start + i * intervalNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException exc) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            int seq = i;
+            executor.execute(() -> action.accept(seq));
+        }
+    }
+
+    private void sendJmsMessage(int seq) {
+        jmsTemplate.convertAndSend("notifications", body(JMS_PREFIX, seq));
+    }
+
+    private void sendRequest(int seq) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/notifications"))
+            .header("Content-Type", "application/json")
+            .header("ServiceAuthorization", "Bearer load-test")
+            .POST(HttpRequest.BodyPublishers.ofString(body(HTTP_PREFIX, seq)))
+            .build();
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            httpLatenciesInMs.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            httpStatuses.computeIfAbsent(response.statusCode(), status -> new AtomicInteger()).incrementAndGet();
+        } catch (IOException exc) {
+            httpStatuses.computeIfAbsent(-1, status -> new AtomicInteger()).incrementAndGet();
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // send time is encoded in zip file name so end-to-end latency can be calculated from the stored rows
+    private static String body(String prefix, int seq) {
+        return "{"
+            + "\"zip_file_name\":\"" + prefix + System.currentTimeMillis() + "-" + seq + ".zip\","
+            + "\"jurisdiction\":\"bulkscan\","
+            + "\"po_box\":\"12345\","
+            + "\"container\":\"bulkscan\","
+            + "\"document_control_number\":\"" + seq + "\","
+            + "\"error_code\":\"ERR_AV_FAILED\","
+            + "\"error_description\":\"load test\","
+            + "\"service\":\"bulkscan\""
+            + "}";
+    }
+
+    private boolean waitForDispatch(int jmsSent) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + SETTINGS.drainTimeout.toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            if (count(JMS_PREFIX, null) >= jmsSent && count(JMS_PREFIX, NotificationStatus.PENDING) == 0) {
+                return true;
+            }
+            Thread.sleep(500);
+        }
+        return false;
+    }
+
+    private int count(String prefix, NotificationStatus status) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM notifications WHERE zip_file_name LIKE :prefix"
+                + (status == null ? "" : " AND status = :status"),
+            new MapSqlParameterSource()
+                .addValue("prefix", prefix + "%")
+                .addValue("status", status == null ? null : status.code),
+            Integer.class
+        );
+    }
+
+    private Map<String, Object> report(
+        int jmsSent,
+        int httpSent,
+        long intakeMillis,
+        boolean drained,
+        PoolSampler poolSampler
+    ) {
+        List<long[]> dispatched = jdbcTemplate.query(
+            "SELECT zip_file_name, created_at, processed_at FROM notifications "
+                + "WHERE zip_file_name LIKE :prefix AND status = :status",
+            new MapSqlParameterSource()
+                .addValue("prefix", JMS_PREFIX + "%")
+                .addValue("status", NotificationStatus.SENT.code),
+            (rs, rowNum) -> new long[] {
+                sentAt(rs.getString("zip_file_name")),
+                rs.getTimestamp("created_at").getTime(),
+                rs.getTimestamp("processed_at").getTime()
+            }
+        );
+
+        List<Long> endToEnd = dispatched.stream().map(row -> row[2] - row[0]).sorted().toList();
+        long firstCreated = dispatched.stream().mapToLong(row -> row[1]).min().orElse(0);
+        long lastProcessed = dispatched.stream().mapToLong(row -> row[2]).max().orElse(0);
+        List<Long> httpLatencies = httpLatenciesInMs.stream().sorted().toList();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", SETTINGS.toString());
+        report.put("drained", drained);
+
+        Map<String, Object> intake = new LinkedHashMap<>();
+        intake.put("jmsSent", jmsSent);
+        intake.put("jmsStored", count(JMS_PREFIX, null));
+        intake.put("httpSent", httpSent);
+        intake.put("httpStatuses", httpStatuses);
+        intake.put("jmsThroughputPerSecond", perSecond(jmsSent, intakeMillis));
+        intake.put("httpThroughputPerSecond", perSecond(httpLatencies.size(), intakeMillis));
+        intake.put("httpLatencyP50Ms", percentile(httpLatencies, 50));
+        intake.put("httpLatencyP99Ms", percentile(httpLatencies, 99));
+        report.put("intake", intake);
+
+        Map<String, Object> dispatch = new LinkedHashMap<>();
+        dispatch.put("sent", dispatched.size());
+        dispatch.put("pending", count(JMS_PREFIX, NotificationStatus.PENDING));
+        dispatch.put("failed", count(JMS_PREFIX, NotificationStatus.FAILED));
+        dispatch.put("throughputPerSecond", perSecond(dispatched.size(), lastProcessed - firstCreated));
+        dispatch.put("endToEndP50Ms", percentile(endToEnd, 50));
+        dispatch.put("endToEndP99Ms", percentile(endToEnd, 99));
+        report.put("dispatch", dispatch);
+
+        report.put("dbPool", poolSampler.summary());
+        return report;
+    }
+
+    private static long sentAt(String zipFileName) {
+        String withoutPrefix = zipFileName.substring(JMS_PREFIX.length());
+        return Long.parseLong(withoutPrefix.substring(0, withoutPrefix.indexOf('-')));
+    }
+
+    private static double perSecond(long count, long millis) {
+        return millis <= 0 ? 0 : count * 1000.0 / millis;
+    }
+
+    private static long percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+
+    private static class PoolSampler {
+
+        private final HikariDataSource dataSource;
+        private final AtomicInteger maxActive = new AtomicInteger();
+        private final AtomicInteger maxAwaiting = new AtomicInteger();
+        private final AtomicLong samples = new AtomicLong();
+        private final AtomicLong saturatedSamples = new AtomicLong();
+
+        PoolSampler(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        void sample() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool == null) {
+                return;
+            }
+            int active = pool.getActiveConnections();
+            int awaiting = pool.getThreadsAwaitingConnection();
+
+            samples.incrementAndGet();
+            maxActive.accumulateAndGet(active, Math::max);
+            maxAwaiting.accumulateAndGet(awaiting, Math::max);
+            if (awaiting > 0 || active >= dataSource.getMaximumPoolSize()) {
+                saturatedSamples.incrementAndGet();
+            }
+        }
+
+        Map<String, Object> summary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("maximumPoolSize", dataSource.getMaximumPoolSize());
+            summary.put("maxActiveConnections", maxActive.get());
+            summary.put("maxThreadsAwaitingConnection", maxAwaiting.get());
+            summary.put(
+                "saturatedSamplePercentage",
+                samples.get() == 0 ? 0 : 100.0 * saturatedSamples.get() / samples.get()
+            );
+            summary.put("sampleInterval", Duration.ofMillis(100).toString());
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.notificationservice.load;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Turns given share of supplier responses into 503 errors, keeping the configured latency.
+ */
+class RandomFaultTransformer implements ResponseDefinitionTransformerV2 {
+
+    private final double errorRate;
+
+    RandomFaultTransformer(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    @Override
+    public ResponseDefinition transform(ServeEvent serveEvent) {
+        ResponseDefinition response = serveEvent.getResponseDefinition();
+        if (ThreadLocalRandom.current().nextDouble() >= errorRate) {
+            return response;
+        }
+
+        return ResponseDefinitionBuilder.like(response)
+            .but()
+            .withStatus(503)
+            .withBody("{\"message\":\"injected fault\"}")
+            .build();
+    }
+
+    @Override
+    public String getName() {
+        return "random-fault";
+    }
+}
@@ -4,6 +4,8 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 @FeignClient(
@@ -18,4 +20,14 @@ public interface ErrorNotificationClientSecondary {
         produces = APPLICATION_JSON_VALUE
     )
     ErrorNotificationResponse notify(@RequestBody ErrorNotificationRequest notification);
+
+    /**
+     * Sends many notifications in one request, used when clients.error-notifications.batch.enabled is set.
+     * Supplier responds with one item per notification, in the order of the request.
+     */
+    @PostMapping(value = "${clients.error-notifications.batch.path:/notifications/batch}",
+        consumes = APPLICATION_JSON_VALUE,
+        produces = APPLICATION_JSON_VALUE
+    )
+    List<ErrorNotificationResponse> notifyBatch(@RequestBody List<ErrorNotificationRequest> notifications);
 }
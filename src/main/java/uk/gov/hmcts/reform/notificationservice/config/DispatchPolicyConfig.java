@@ -0,0 +1,142 @@
+package uk.gov.hmcts.reform.notificationservice.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.notificationservice.data.Notification;
+import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Dispatch policy of new pending notifications, applied when they are inserted.
+ * <ul>
+ *     <li>Priority, notifications with higher priority are sent first. Error codes and services can each
+ *     be given a priority, a notification gets the higher of the configured ones, or
+ *     {@link Notification#DEFAULT_PRIORITY} when neither is configured.</li>
+ *     <li>Delay before the notification is sent, for notifications received from the queue only. Notifications
+ *     submitted through the API are due straight away. The most specific configured delay applies: service,
+ *     then error code, then client, then the global send delay.</li>
+ * </ul>
+ */
+@Configuration
+public class DispatchPolicyConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(DispatchPolicyConfig.class);
+
+    private final Map<ErrorCode, Integer> errorCodePriorities;
+    private final Map<String, Integer> servicePriorities;
+
+    private final Duration defaultDelay;
+    private final Map<String, Duration> serviceDelays;
+    private final Map<ErrorCode, Duration> errorCodeDelays;
+    private final Map<String, Duration> clientDelays;
+
+    public DispatchPolicyConfig(
+        // comma separated ERROR_CODE:priority pairs
+        @Value("${scheduling.task.pending-notifications.priorities.error-codes:}") String errorCodePriorities,
+        // comma separated service:priority pairs
+        @Value("${scheduling.task.pending-notifications.priorities.services:}") String servicePriorities,
+        @Value("${scheduling.task.pending-notifications.send-delay-in-minute}") int defaultDelayInMinutes,
+        // comma separated key:ISO-8601 duration pairs, e.g. ERR_AV_FAILED:PT0S
+        @Value("${scheduling.task.pending-notifications.send-delays.services:}") String serviceDelays,
+        @Value("${scheduling.task.pending-notifications.send-delays.error-codes:}") String errorCodeDelays,
+        @Value("${scheduling.task.pending-notifications.send-delays.clients:}") String clientDelays
+    ) {
+        this.errorCodePriorities = new EnumMap<>(ErrorCode.class);
+        this.errorCodePriorities.putAll(
+            parse(errorCodePriorities, ErrorCode::valueOf, DispatchPolicyConfig::priority)
+        );
+        this.servicePriorities =
+            parse(servicePriorities, DispatchPolicyConfig::lowerCase, DispatchPolicyConfig::priority);
+
+        this.defaultDelay = Duration.ofMinutes(defaultDelayInMinutes);
+        this.serviceDelays = parse(serviceDelays, DispatchPolicyConfig::lowerCase, DispatchPolicyConfig::delay);
+        this.errorCodeDelays = new EnumMap<>(ErrorCode.class);
+        this.errorCodeDelays.putAll(parse(errorCodeDelays, ErrorCode::valueOf, DispatchPolicyConfig::delay));
+        this.clientDelays = parse(clientDelays, DispatchPolicyConfig::lowerCase, DispatchPolicyConfig::delay);
+
+        log.info(
+            "Notification priorities. Error codes: {}, services: {}",
+            this.errorCodePriorities,
+            this.servicePriorities
+        );
+        log.info(
+            "Notification send delays. Default: {}, services: {}, error codes: {}, clients: {}",
+            this.defaultDelay,
+            this.serviceDelays,
+            this.errorCodeDelays,
+            this.clientDelays
+        );
+    }
+
+    public short getPriority(ErrorCode errorCode, String service) {
+        Integer errorCodePriority = errorCodePriorities.get(errorCode);
+        Integer servicePriority = service == null ? null : servicePriorities.get(lowerCase(service));
+        if (errorCodePriority == null && servicePriority == null) {
+            return (short) Notification.DEFAULT_PRIORITY;
+        }
+        // only configured priorities are compared, so an error code can be given a priority below the default
+        return (short) Math.max(
+            errorCodePriority == null ? Integer.MIN_VALUE : errorCodePriority,
+            servicePriority == null ? Integer.MIN_VALUE : servicePriority
+        );
+    }
+
+    /**
+     * Time between insert of the notification and the moment it becomes due for dispatch.
+     */
+    public Duration getDelay(ErrorCode errorCode, String service, String client) {
+        Duration serviceDelay = service == null ? null : serviceDelays.get(lowerCase(service));
+        if (serviceDelay != null) {
+            return serviceDelay;
+        }
+        Duration errorCodeDelay = errorCodeDelays.get(errorCode);
+        if (errorCodeDelay != null) {
+            return errorCodeDelay;
+        }
+        return client == null ? defaultDelay : clientDelays.getOrDefault(lowerCase(client), defaultDelay);
+    }
+
+    private static String lowerCase(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Integer priority(String value) {
+        int priority = Integer.parseInt(value);
+        if (priority < 0 || priority > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("priority out of range");
+        }
+        return priority;
+    }
+
+    private static Duration delay(String value) {
+        Duration delay = Duration.parse(value);
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("delay must not be negative");
+        }
+        return delay;
+    }
+
+    private static <K, V> Map<K, V> parse(String pairs, Function<String, K> toKey, Function<String, V> toValue) {
+        Map<K, V> parsed = new HashMap<>();
+        for (String pair : pairs.split(",")) {
+            if (pair.isBlank()) {
+                continue;
+            }
+            String[] keyAndValue = pair.split(":");
+            try {
+                parsed.put(toKey.apply(keyAndValue[0].trim()), toValue.apply(keyAndValue[1].trim()));
+            } catch (RuntimeException exc) {
+                throw new IllegalArgumentException("Invalid dispatch policy entry: " + pair, exc);
+            }
+        }
+        return parsed;
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import uk.gov.hmcts.reform.notificationservice.service.NotificationMessageProcessor;
 
+import java.time.Duration;
+
 //TODO: FACT-2026 - whole class can go
 @Configuration
 @ConditionalOnExpression("!${jms.enabled}")
@@ -26,6 +28,8 @@ public class QueueClientConfig {
         @Value("${queue.notifications.access-key-name}") String accessKeyName,
         @Value("${queue.notifications.name}") String queueName,
         @Value("${queue.notifications.namespace}") String namespace,
+        @Value("${queue.notifications.max-auto-lock-renew-duration:PT5M}") Duration maxAutoLockRenewDuration,
+        @Value("${queue.notifications.max-concurrent-calls:1}") int maxConcurrentCalls,
         NotificationMessageProcessor notificationMessageProcessor
     ) {
 
@@ -42,6 +46,9 @@ public class QueueClientConfig {
             .queueName(queueName)
             .receiveMode(ServiceBusReceiveMode.PEEK_LOCK)
             .disableAutoComplete()
+            // lock is renewed while the message is processed, so slow inserts do not lead to redelivery
+            .maxAutoLockRenewDuration(maxAutoLockRenewDuration)
+            .maxConcurrentCalls(maxConcurrentCalls)
             .processMessage(notificationMessageProcessor::processNextMessage)
             .processError(c -> log.error("Notification queue handle error {}", c.getErrorSource(), c.getException()))
             .buildProcessorClient();
@@ -2,6 +2,8 @@ package uk.gov.hmcts.reform.notificationservice.config;
 
 import com.microsoft.applicationinsights.web.internal.RequestTelemetryContext;
 import com.microsoft.applicationinsights.web.internal.ThreadContext;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.slf4j.Logger;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -55,6 +57,13 @@ public class SchedulerConfiguration implements SchedulingConfigurer {
         return scheduler;
     }
 
+    @Bean
+    public MeterBinder schedulerErrorsMeterBinder() {
+        return registry -> FunctionCounter.builder("notifications.scheduler.errors", errorCount, AtomicInteger::get)
+            .description("Unhandled exceptions thrown by scheduled tasks")
+            .register(registry);
+    }
+
     /**
      * Custom {@link ThreadPoolTaskScheduler} to be able to register scheduled tasks via AppInsights.
      */
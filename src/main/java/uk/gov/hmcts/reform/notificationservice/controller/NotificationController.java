@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -21,20 +22,29 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 import uk.gov.hmcts.reform.notificationservice.data.Notification;
+import uk.gov.hmcts.reform.notificationservice.model.in.NotificationSearchRequest;
+import uk.gov.hmcts.reform.notificationservice.model.in.NotifyBatchItem;
+import uk.gov.hmcts.reform.notificationservice.model.in.NotifyBatchRequest;
 import uk.gov.hmcts.reform.notificationservice.model.in.NotifyRequest;
 import uk.gov.hmcts.reform.notificationservice.model.out.NotificationInfo;
+import uk.gov.hmcts.reform.notificationservice.model.out.NotificationSearchResponse;
+import uk.gov.hmcts.reform.notificationservice.model.out.NotifyBatchResponse;
 import uk.gov.hmcts.reform.notificationservice.model.out.NotificationsResponse;
 import uk.gov.hmcts.reform.notificationservice.service.AuthService;
 import uk.gov.hmcts.reform.notificationservice.service.NotificationService;
+import uk.gov.hmcts.reform.notificationservice.util.NotificationConverter;
 
 import java.net.URI;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
-import static java.lang.Math.min;
-import static java.util.stream.Collectors.toList;
 import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
+import static org.springframework.http.ResponseEntity.accepted;
 import static org.springframework.http.ResponseEntity.created;
 import static org.springframework.http.ResponseEntity.ok;
 
@@ -47,15 +57,18 @@ public class NotificationController {
     private final NotificationService notificationService;
     private final AuthService authService;
 
-    private static final int MAX_ERROR_DESCRIPTION_LENGTH = 1024;
     private static final String SUCCESS_CODE = "200";
     private static final String CREATED_CODE = "201";
+    private static final String ACCEPTED_CODE = "202";
     private static final String NOT_FOUND_CODE = "404";
 
     private static final String UNAUTHORISED_CODE = "401";
 
     private static final String UNAUTHORISED_USER = "Unauthorised user/Invalid token";
 
+    // values accepted by a single search request, keeps the arrays bound to the query small
+    private static final int MAX_SEARCH_VALUES = 500;
+
 
     public NotificationController(
         NotificationService notificationService,
@@ -213,6 +226,49 @@ public class NotificationController {
         return mapToNotificationsResponse(notificationService.getAllPendingNotifications());
     }
 
+    /**
+     * Finds notifications of the calling service by many zip file names, DCNs or notification IDs at once.
+     * Using this endpoint requires a valid authorisation token.
+     * @path /notifications/search
+     * @body {@link NotificationSearchRequest}
+     * @header ServiceAuthorisation token to be authenticated by {@link AuthService}
+     * @return {@link NotificationSearchResponse} notifications found, grouped by zip file name
+     */
+    @PostMapping(path = "/search", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Search notifications",
+        description = "Get notifications matching any of the given zip file names, DCNs or notification IDs. "
+            + "Up to " + MAX_SEARCH_VALUES + " values in total can be sent in one request"
+    )
+    @ApiResponse(
+        responseCode = SUCCESS_CODE,
+        description = "Success",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = NotificationSearchResponse.class)
+        )
+    )
+    @ApiResponse(responseCode = UNAUTHORISED_CODE, description = UNAUTHORISED_USER)
+    @ApiResponse(responseCode = BAD_REQUEST_CODE, description = "If no values or too many values are given")
+    public NotificationSearchResponse searchNotifications(
+        @RequestHeader(name = "ServiceAuthorization", required = false) String serviceAuthHeader,
+        @RequestBody NotificationSearchRequest searchRequest
+    ) {
+        String serviceName = authService.authenticate(serviceAuthHeader);
+
+        int values = size(searchRequest.zipFileNames)
+            + size(searchRequest.documentControlNumbers)
+            + size(searchRequest.notificationIds);
+        if (values == 0 || values > MAX_SEARCH_VALUES) {
+            throw new ResponseStatusException(
+                HttpStatus.BAD_REQUEST,
+                "Between 1 and " + MAX_SEARCH_VALUES + " zip file names, DCNs and notification IDs must be given"
+            );
+        }
+
+        return notificationService.search(searchRequest, serviceName);
+    }
+
     /**
      * Add a notification message.
      * This endpoint can be used to add a new error notification message to the notifications table.
@@ -238,35 +294,65 @@ public class NotificationController {
             .body(notificationService.saveNotificationMsg(notifyRequest));
     }
 
-    private NotificationsResponse mapToNotificationsResponse(List<Notification> list) {
-        List<NotificationInfo> notifications = list.stream()
-            .map(this::toNotificationResponse)
-            .collect(toList());
+    /**
+     * Add a batch of notification messages.
+     * Notifications are saved as pending and the supplier is notified in the background by the next dispatcher run,
+     * without the send delay applied to notifications received from the queue. The response
+     * only contains their IDs and statuses. Items are identified by idempotency keys, resubmitting a key
+     * returns the notification saved the first time. Every item must be for the service the token was issued to.
+     * Using this endpoint requires a valid authorisation token.
+     * @path /notifications/batch
+     * @body {@link NotifyBatchRequest}
+     * @header ServiceAuthorisation token to be authenticated by {@link AuthService}
+     * @return {@link NotifyBatchResponse} ID and status of every item, in the order of the request
+     */
+    @PostMapping(path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Add a batch of notifications",
+        description = "Save up to " + NotifyBatchRequest.MAX_BATCH_SIZE + " notifications, suppliers are notified "
+            + "in the background"
+    )
+    @ApiResponse(responseCode = ACCEPTED_CODE, description = "Notifications saved")
+    @ApiResponse(responseCode = UNAUTHORISED_CODE, description = UNAUTHORISED_USER)
+    @ApiResponse(
+        responseCode = BAD_REQUEST_CODE,
+        description = "If the batch does not pass validation, contains an idempotency key more than once "
+            + "or contains a notification for another service"
+    )
+    public ResponseEntity<NotifyBatchResponse> addNotificationBatch(
+        @RequestHeader(name = "ServiceAuthorization", required = false) String serviceAuthHeader,
+        @RequestBody @Validated NotifyBatchRequest batchRequest) {
+        String serviceName = authService.authenticate(serviceAuthHeader);
 
-        return new NotificationsResponse(notifications);
+        Set<String> idempotencyKeys = new HashSet<>();
+        for (NotifyBatchItem item : batchRequest.notifications) {
+            if (!idempotencyKeys.add(item.idempotencyKey)) {
+                throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Idempotency key used more than once in the batch: " + item.idempotencyKey
+                );
+            }
+            if (!serviceName.equals(item.notification.service)) {
+                throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Notification for another service in the batch, idempotency key: " + item.idempotencyKey
+                );
+            }
+        }
+
+        return accepted().body(notificationService.saveNotificationBatch(batchRequest, serviceName));
+    }
+
+    private static int size(List<?> list) {
+        return list == null ? 0 : list.size();
     }
 
-    private NotificationInfo toNotificationResponse(Notification notification) {
-        return new NotificationInfo(
-            notification.id,
-            notification.confirmationId,
-            notification.zipFileName,
-            notification.poBox,
-            notification.container,
-            notification.service,
-            notification.documentControlNumber,
-            notification.errorCode.name(),
-            notification.errorDescription == null
-                ?
-                ""
-                :
-                notification.errorDescription.substring(
-                    0,
-                    min(MAX_ERROR_DESCRIPTION_LENGTH, notification.errorDescription.length())
-                ),
-            notification.createdAt,
-            notification.processedAt,
-            notification.status.name()
-        );
+    private NotificationsResponse mapToNotificationsResponse(List<Notification> list) {
+        List<NotificationInfo> notifications = new ArrayList<>(list.size());
+        for (Notification notification : list) {
+            notifications.add(NotificationConverter.toNotificationResponse(notification));
+        }
+
+        return new NotificationsResponse(notifications);
     }
 }
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.notificationservice.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import uk.gov.hmcts.reform.notificationservice.model.out.NotificationSummaryResponse;
+import uk.gov.hmcts.reform.notificationservice.service.NotificationSummaryService;
+
+import java.time.LocalDate;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
+
+@RestController
+@RequestMapping(path = "/notifications/summary", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Notification summary", description = "Daily counts of notifications")
+public class NotificationSummaryController {
+
+    private static final long MAX_DAYS = 366;
+
+    private final NotificationSummaryService summaryService;
+
+    public NotificationSummaryController(NotificationSummaryService summaryService) {
+        this.summaryService = summaryService;
+    }
+
+    @GetMapping
+    @Operation(
+        summary = "Get notification counts",
+        description = "Get notification counts by date, service, status, error code and client for given days. "
+            + "Counts are refreshed periodically so the most recent changes might not be included yet."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Success",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = NotificationSummaryResponse.class)
+        )
+    )
+    @ApiResponse(responseCode = "400", description = "Invalid date range")
+    public NotificationSummaryResponse getSummary(
+        @RequestParam(name = "from") @DateTimeFormat(iso = DATE) LocalDate from,
+        @RequestParam(name = "to") @DateTimeFormat(iso = DATE) LocalDate to
+    ) {
+        if (to.isBefore(from) || DAYS.between(from, to) >= MAX_DAYS) {
+            throw new ResponseStatusException(
+                HttpStatus.BAD_REQUEST,
+                "'to' must not be before 'from' and the range must not exceed " + MAX_DAYS + " days"
+            );
+        }
+
+        return summaryService.getSummary(from, to);
+    }
+}
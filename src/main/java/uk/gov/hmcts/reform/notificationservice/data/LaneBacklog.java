@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.notificationservice.data;
+
+/**
+ * Pending notifications of a single service and client, a dispatch lane.
+ */
+public class LaneBacklog {
+
+    public final String service;
+    public final String client;
+    public final long count;
+
+    public LaneBacklog(String service, String client, long count) {
+        this.service = service;
+        this.client = client;
+        this.count = count;
+    }
+}
@@ -6,6 +6,9 @@ import java.time.Instant;
 
 public class Notification {
 
+    // priority of notifications with error code and service not listed in DispatchPolicyConfig
+    public static final int DEFAULT_PRIORITY = 1;
+
     public final long id;
     public final String confirmationId;
     public final String zipFileName;
@@ -20,6 +23,8 @@ public class Notification {
     public final NotificationStatus status;
     public final String messageId;
     public final String client;
+    // higher is dispatched first
+    public final int priority;
 
     public Notification(
         long id,
@@ -36,6 +41,42 @@ public class Notification {
         NotificationStatus status,
         String messageId,
         String client
+    ) {
+        this(
+            id,
+            confirmationId,
+            zipFileName,
+            poBox,
+            container,
+            service,
+            documentControlNumber,
+            errorCode,
+            errorDescription,
+            createdAt,
+            processedAt,
+            status,
+            messageId,
+            client,
+            DEFAULT_PRIORITY
+        );
+    }
+
+    public Notification(
+        long id,
+        String confirmationId,
+        String zipFileName,
+        String poBox,
+        String container,
+        String service,
+        String documentControlNumber,
+        ErrorCode errorCode,
+        String errorDescription,
+        Instant createdAt,
+        Instant processedAt,
+        NotificationStatus status,
+        String messageId,
+        String client,
+        int priority
     ) {
         this.id = id;
         this.confirmationId = confirmationId;
@@ -51,17 +92,17 @@ public class Notification {
         this.status = status;
         this.messageId = messageId;
         this.client = client;
+        this.priority = priority;
     }
 
     public String toString() {
-        return String.format(
-            "Notification{id=%d, zipFileName='%s', container='%s', service='%s', errorCode='%s, client='%s'}",
-            id,
-            zipFileName,
-            container,
-            service,
-            errorCode,
-            client
-        );
+        // concatenation rather than String.format, this is logged for every dispatched notification
+        return "Notification{id=" + id
+            + ", zipFileName='" + zipFileName
+            + "', container='" + container
+            + "', service='" + service
+            + "', errorCode='" + errorCode
+            + "', client='" + client
+            + "'}";
     }
 }
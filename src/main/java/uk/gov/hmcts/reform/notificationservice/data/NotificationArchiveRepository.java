@@ -0,0 +1,60 @@
+package uk.gov.hmcts.reform.notificationservice.data;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class NotificationArchiveRepository {
+
+    private static final String COLUMNS = "id, confirmation_id, zip_file_name, po_box, container, service, "
+        + "document_control_number, error_code, error_description, created_at, processed_at, status, "
+        + "message_id, client, retry_after, priority, dispatch_not_before, fingerprint";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public NotificationArchiveRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Moves the next batch of SENT and FAILED notifications older than the retention period into the archive table.
+     * Rows are taken in id order after {@code afterId}, so consecutive calls walk the table without rescanning.
+     * The cutoff is computed by the database, in the same time zone as {@code created_at}.
+     * @param retentionInDays only notifications created more than this many days ago are moved
+     * @param afterId id of the last notification moved by the previous batch
+     * @param batchSize maximum number of notifications to move
+     * @return number of moved notifications and the highest moved id
+     */
+    public ArchivedBatch archiveBatch(int retentionInDays, long afterId, int batchSize) {
+        return jdbcTemplate.queryForObject(
+            "WITH batch AS ("
+                + "  SELECT id, created_at FROM notifications"
+                + "  WHERE status IN (:statuses) AND id > :afterId"
+                + "  AND created_at < now()::timestamp - make_interval(days => :retentionInDays)"
+                + "  ORDER BY id LIMIT :batchSize"
+                + "  FOR UPDATE SKIP LOCKED"
+                + "), moved AS ("
+                + "  DELETE FROM notifications n USING batch"
+                + "  WHERE n.id = batch.id AND n.created_at = batch.created_at"
+                + "  RETURNING n.*"
+                + "), archived AS ("
+                + "  INSERT INTO notifications_archive (" + COLUMNS + ")"
+                + "  SELECT " + COLUMNS + " FROM moved"
+                + "  RETURNING id"
+                + ") "
+                + "SELECT COUNT(*) AS moved, COALESCE(MAX(id), :afterId) AS last_id FROM archived",
+            new MapSqlParameterSource()
+                .addValue("statuses", List.of(NotificationStatus.SENT.code, NotificationStatus.FAILED.code))
+                .addValue("retentionInDays", retentionInDays)
+                .addValue("afterId", afterId)
+                .addValue("batchSize", batchSize),
+            (rs, rowNum) -> new ArchivedBatch(rs.getInt("moved"), rs.getLong("last_id"))
+        );
+    }
+
+    public record ArchivedBatch(int count, long lastId) {
+    }
+}
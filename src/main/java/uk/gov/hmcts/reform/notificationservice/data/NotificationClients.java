@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.notificationservice.data;
+
+/**
+ * Supplier clients notifications are sent with and their codes stored in the database.
+ */
+public final class NotificationClients {
+
+    public static final String PRIMARY = "primary";
+    public static final String SECONDARY = "secondary";
+
+    // index is the value stored in the database, must never change once released
+    private static final String[] BY_CODE = {PRIMARY, SECONDARY};
+
+    private NotificationClients() {
+        // utility class
+    }
+
+    /**
+     * Converts client to its database code. Missing client means primary (as for notifications
+     * stored before the client column was introduced).
+     */
+    public static short toCode(String client) {
+        if (client == null || PRIMARY.equals(client)) {
+            return 0;
+        } else if (SECONDARY.equals(client)) {
+            return 1;
+        } else {
+            throw new IllegalArgumentException("Unknown client: " + client);
+        }
+    }
+
+    public static String fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown client code: " + code);
+        }
+        return BY_CODE[code];
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.notificationservice.data;
+
+import com.google.common.hash.Hashing;
+import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Identifies equivalent notifications, same envelope (zip file of a service) failing with the same error.
+ * Stored in the fingerprint column so equivalent pending notifications can be looked up by index.
+ */
+public final class NotificationFingerprint {
+
+    public static long of(String zipFileName, ErrorCode errorCode, String service) {
+        return Hashing.murmur3_128()
+            .newHasher()
+            .putString(String.valueOf(service), UTF_8)
+            .putChar('\0')
+            .putString(String.valueOf(zipFileName), UTF_8)
+            .putChar('\0')
+            .putShort(errorCode.code)
+            .hash()
+            .asLong();
+    }
+
+    public static long of(Notification notification) {
+        return of(notification.zipFileName, notification.errorCode, notification.service);
+    }
+
+    private NotificationFingerprint() {
+        // utility class constructor
+    }
+}
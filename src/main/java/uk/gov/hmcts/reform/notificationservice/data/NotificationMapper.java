@@ -23,13 +23,14 @@ public class NotificationMapper implements RowMapper<Notification> {
             rs.getString("container"),
             rs.getString("service"),
             rs.getString("document_control_number"),
-            ErrorCode.valueOf(rs.getString("error_code")),
+            ErrorCode.fromCode(rs.getShort("error_code")),
             rs.getString("error_description"),
             rs.getTimestamp("created_at").toInstant(),
             getOptionalInstant(rs.getTimestamp("processed_at")),
-            NotificationStatus.valueOf(rs.getString("status")),
+            NotificationStatus.fromCode(rs.getShort("status")),
             rs.getString("message_id"),
-            rs.getString("client")
+            NotificationClients.fromCode(rs.getShort("client")),
+            rs.getShort("priority")
         );
     }
 
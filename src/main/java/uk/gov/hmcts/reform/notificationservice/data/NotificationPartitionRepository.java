@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.notificationservice.data;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Manages the monthly range partitions of the notifications table (partitioned by created_at).
+ * Partitions are named {@code notifications_yyyy_MM}.
+ */
+@Repository
+public class NotificationPartitionRepository {
+
+    private static final String PARENT_TABLE = "notifications";
+    private static final String PARTITION_PREFIX = PARENT_TABLE + "_";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public NotificationPartitionRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Lists months of all monthly partitions currently attached to the notifications table.
+     * @return attached partition months, oldest first
+     */
+    public List<YearMonth> findAttachedPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT child.relname FROM pg_inherits "
+                    + "JOIN pg_class parent ON parent.oid = pg_inherits.inhparent "
+                    + "JOIN pg_class child ON child.oid = pg_inherits.inhrelid "
+                    + "WHERE parent.relname = :parent",
+                new MapSqlParameterSource("parent", PARENT_TABLE),
+                String.class
+            )
+            .stream()
+            .map(NotificationPartitionRepository::toMonth)
+            .flatMap(Optional::stream)
+            .sorted()
+            .toList();
+    }
+
+    /**
+     * Creates the partition for given month unless it exists already.
+     * Notifications of that month already stored in the default partition are moved into it.
+     * @param month month of the partition
+     */
+    public void createPartition(YearMonth month) {
+        callPartitionFunction("create_notifications_partition", month);
+    }
+
+    /**
+     * Detaches the partition for given month. The detached table is kept as is.
+     * @param month month of the partition
+     */
+    public void detachPartition(YearMonth month) {
+        callPartitionFunction("detach_notifications_partition", month);
+    }
+
+    // partition DDL is built by the database functions (see V024), with quoted identifiers and literals
+    private void callPartitionFunction(String function, YearMonth month) {
+        jdbcTemplate.query(
+            "SELECT " + function + "(:monthStart)",
+            new MapSqlParameterSource("monthStart", Date.valueOf(month.atDay(1))),
+            (ResultSetExtractor<Void>) rs -> null
+        );
+    }
+
+    private static Optional<YearMonth> toMonth(String partitionName) {
+        try {
+            return Optional.of(YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX));
+        } catch (RuntimeException exc) {
+            // default partition or a table not following the naming convention
+            return Optional.empty();
+        }
+    }
+}
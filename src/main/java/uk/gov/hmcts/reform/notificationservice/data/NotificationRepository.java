@@ -3,42 +3,71 @@ package uk.gov.hmcts.reform.notificationservice.data;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.notificationservice.config.DispatchPolicyConfig;
 import uk.gov.hmcts.reform.notificationservice.exception.DuplicateMessageIdException;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.CREATED;
 import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.FAILED;
 import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.PENDING;
 import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.SENT;
+import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.UNCONFIRMED;
 
 @Repository
 public class NotificationRepository {
 
+    // channel used to wake up the pending notifications dispatcher, see PendingNotificationsListener
+    public static final String PENDING_NOTIFICATIONS_CHANNEL = "pending_notifications";
+
     private static final String ORDER_BY_ID = "ORDER BY id";
     private static final String ZIP_FILE_NAME = "zipFileName";
     private static final String STATUS = "status";
+    // pending notifications the dispatcher can send now, backed by partial index on dispatch_not_before
+    private static final String DUE_CONDITION =
+        "status = :status AND confirmation_id IS NULL AND dispatch_not_before <= now()::timestamp";
+    // created_at is the partition key, with a range around it updates of a single notification probe one partition
+    // (two next to a month boundary). The range rather than equality tolerates created_at read and bound back
+    // in a JVM time zone which differs from the one of the database session, id alone identifies the row
+    private static final String WHERE_ID =
+        "WHERE id = :id AND created_at >= :createdAtFrom AND created_at < :createdAtTo";
+    private static final Duration CREATED_AT_TOLERANCE = Duration.ofDays(1);
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final NotificationMapper mapper;
-    private final int delayDurationToProcessPending;
+    private final DispatchPolicyConfig dispatchPolicy;
+    private final boolean listenEnabled;
+    private final long pollIntervalInMs;
 
 
     public NotificationRepository(
         NamedParameterJdbcTemplate jdbcTemplate,
         NotificationMapper mapper,
-        @Value("${scheduling.task.pending-notifications.send-delay-in-minute}") int delayDurationToProcessPending
+        DispatchPolicyConfig dispatchPolicy,
+        @Value("${scheduling.task.pending-notifications.listen.enabled:false}") boolean listenEnabled,
+        @Value("${scheduling.task.pending-notifications.delay}") long pollIntervalInMs
     ) {
         this.jdbcTemplate = jdbcTemplate;
         this.mapper = mapper;
-        this.delayDurationToProcessPending = delayDurationToProcessPending;
+        this.dispatchPolicy = dispatchPolicy;
+        this.listenEnabled = listenEnabled;
+        this.pollIntervalInMs = pollIntervalInMs;
     }
 
     /**
@@ -75,9 +104,12 @@ public class NotificationRepository {
 
     public List<Notification> findByDate(LocalDate date) {
         return jdbcTemplate.query(
-            "SELECT * FROM notifications WHERE DATE(created_at) = :date "
+            // range predicate (rather than DATE(created_at)) lets postgres prune the monthly partitions
+            "SELECT * FROM notifications WHERE created_at >= :from AND created_at < :to "
                 + ORDER_BY_ID,
-            new MapSqlParameterSource("date", date),
+            new MapSqlParameterSource()
+                .addValue("from", date.atStartOfDay())
+                .addValue("to", date.plusDays(1).atStartOfDay()),
             mapper
         );
     }
@@ -91,24 +123,139 @@ public class NotificationRepository {
         );
     }
 
+    /**
+     * Streams notifications of the service matching any of given zip file names, DCNs or IDs.
+     * Rows are passed to the consumer as they are read, ordered by zip file name.
+     * @param service service the notifications belong to
+     * @param zipFileNames zip file names to look for
+     * @param documentControlNumbers DCNs to look for
+     * @param ids notification IDs to look for
+     * @param consumer receives every notification found
+     */
+    public void search(
+        String service,
+        List<String> zipFileNames,
+        List<String> documentControlNumbers,
+        List<Long> ids,
+        Consumer<Notification> consumer
+    ) {
+        jdbcTemplate.query(
+            // one statement for all values, each array is matched using its own index
+            "SELECT * FROM notifications WHERE service = :service "
+                + "AND (zip_file_name = ANY(:zipFileNames) "
+                + "OR document_control_number = ANY(:documentControlNumbers) "
+                + "OR id = ANY(:ids)) "
+                + "ORDER BY zip_file_name, id",
+            new MapSqlParameterSource()
+                .addValue("service", service)
+                .addValue("zipFileNames", zipFileNames.toArray(new String[0]))
+                .addValue("documentControlNumbers", documentControlNumbers.toArray(new String[0]))
+                .addValue("ids", ids.toArray(new Long[0])),
+            (RowCallbackHandler) rs -> consumer.accept(mapper.mapRow(rs, rs.getRow()))
+        );
+    }
+
     public List<Notification> findPending() { //TODO: FACT-2026
         return jdbcTemplate.query(
-            "SELECT * FROM notifications WHERE status = :status and confirmation_id IS NULL and "
-                + "created_at < (now()::timestamp - interval '" + delayDurationToProcessPending + " minutes')",
-            new MapSqlParameterSource(STATUS, PENDING.name()),
+            "SELECT * FROM notifications WHERE " + DUE_CONDITION,
+            new MapSqlParameterSource(STATUS, PENDING.code),
+            mapper
+        );
+    }
+
+    /**
+     * Finds pending notifications for the dispatcher, at most maxPerLane of each service and client.
+     * Notifications with the highest priority are taken first, oldest first within the same priority.
+     * @param maxPerLane limit of notifications per service and client
+     * @return notifications ordered by priority and ID
+     */
+    public List<Notification> findPending(int maxPerLane) {
+        return jdbcTemplate.query(
+            "SELECT * FROM ("
+                + "  SELECT *, ROW_NUMBER() OVER (PARTITION BY service, client ORDER BY priority DESC, id) "
+                + "    AS lane_position "
+                + "  FROM notifications WHERE " + DUE_CONDITION
+                + ") pending "
+                + "WHERE lane_position <= :maxPerLane "
+                + "ORDER BY priority DESC, id",
+            new MapSqlParameterSource()
+                .addValue(STATUS, PENDING.code)
+                .addValue("maxPerLane", maxPerLane),
+            mapper
+        );
+    }
+
+    /**
+     * Finds due pending notifications equivalent to any of the given ones.
+     * Notifications still within their dispatch delay are left alone, so coalescing never sends one early.
+     * @param fingerprints see {@link NotificationFingerprint}
+     * @return notifications ordered by ID
+     */
+    public List<Notification> findPendingByFingerprints(Collection<Long> fingerprints) {
+        return jdbcTemplate.query(
+            "SELECT * FROM notifications "
+                + "WHERE " + DUE_CONDITION + " AND fingerprint = ANY(:fingerprints) "
+                + ORDER_BY_ID,
+            new MapSqlParameterSource()
+                .addValue(STATUS, PENDING.code)
+                .addValue("fingerprints", fingerprints.toArray(new Long[0])),
             mapper
         );
     }
 
+    /**
+     * Counts pending notifications of each service and client.
+     * Backed by partial index on service and client of pending notifications.
+     * @return backlog of lanes which have any pending notifications
+     */
+    public List<LaneBacklog> findPendingLaneBacklog() {
+        return jdbcTemplate.query(
+            "SELECT service, client, COUNT(*) AS pending FROM notifications "
+                + "WHERE status = :status GROUP BY service, client ORDER BY service, client",
+            new MapSqlParameterSource(STATUS, PENDING.code),
+            (rs, rowNum) -> new LaneBacklog(
+                rs.getString("service"),
+                NotificationClients.fromCode(rs.getShort("client")),
+                rs.getLong("pending")
+            )
+        );
+    }
+
+    /**
+     * Counts pending notifications and finds the one which has been due for the longest for each client.
+     * Time a notification waits by design (send delay, supplier retry after) does not count as backlog.
+     * Backed by partial index on client and dispatch_not_before of pending notifications, so it stays cheap
+     * regardless of the table size.
+     * @return backlog of clients which have any pending notifications
+     */
+    public List<PendingBacklog> findPendingBacklog() {
+        return jdbcTemplate.query(
+            "SELECT client, COUNT(*) AS pending, MIN(dispatch_not_before) AS oldest_due FROM notifications "
+                + "WHERE status = :status GROUP BY client ORDER BY client",
+            new MapSqlParameterSource(STATUS, PENDING.code),
+            (rs, rowNum) -> {
+                Timestamp oldestDue = rs.getTimestamp("oldest_due");
+                return new PendingBacklog(
+                    NotificationClients.fromCode(rs.getShort("client")),
+                    rs.getLong("pending"),
+                    oldestDue == null ? null : oldestDue.toInstant()
+                );
+            }
+        );
+    }
+
     public long insert(NewNotification notification) {
         try {
             KeyHolder keyHolder = new GeneratedKeyHolder();
+            long delayInSeconds = delayInSeconds(notification);
 
             jdbcTemplate.update(
                 "INSERT INTO notifications (zip_file_name, po_box, container, service, document_control_number, "
-                    + "error_code, error_description, created_at, status, message_id, client) "
+                    + "error_code, error_description, created_at, status, message_id, client, priority, "
+                    + "dispatch_not_before, fingerprint) "
                     + "VALUES ( :zipFileName, :poBox, :container, :service, :DCN, :errorCode, "
-                    + ":errorDescription, CURRENT_TIMESTAMP, :status, :messageId, :client"
+                    + ":errorDescription, CURRENT_TIMESTAMP, :status, :messageId, :client, :priority, "
+                    + "CURRENT_TIMESTAMP + make_interval(secs => :delayInSeconds), :fingerprint"
                     + ")",
                 new MapSqlParameterSource()
                     .addValue(ZIP_FILE_NAME, notification.zipFileName)
@@ -116,16 +263,22 @@ public class NotificationRepository {
                     .addValue("container", notification.container)
                     .addValue("service", notification.service)
                     .addValue("DCN", notification.documentControlNumber)
-                    .addValue("errorCode", notification.errorCode.name())
+                    .addValue("errorCode", notification.errorCode.code)
                     .addValue("errorDescription", notification.errorDescription)
-                    .addValue(STATUS, PENDING.name())
+                    .addValue(STATUS, PENDING.code)
                     .addValue("messageId", notification.messageId)
-                    .addValue("client", notification.client),
+                    .addValue("client", NotificationClients.toCode(notification.client))
+                    .addValue("priority", dispatchPolicy.getPriority(notification.errorCode, notification.service))
+                    .addValue("delayInSeconds", delayInSeconds)
+                    .addValue("fingerprint", fingerprint(notification)),
                 keyHolder,
                 new String[]{"id"}
             );
 
-            return (long) keyHolder.getKey();
+            long id = (long) keyHolder.getKey();
+            wakeUpPendingListeners(delayInSeconds);
+
+            return id;
         } catch (DuplicateKeyException ex) {
             throw new DuplicateMessageIdException(
                 String.format(
@@ -135,46 +288,169 @@ public class NotificationRepository {
         }
     }
 
+    /**
+     * Inserts PENDING notifications with a single statement, the pending notifications task sends them later.
+     * Notifications are due straight away: they come from the API, whose single notification endpoint calls
+     * the supplier synchronously, so send delays of the dispatch policy (meant for queue intake) do not apply.
+     * Priority of the dispatch policy does.
+     * Values of each column are bound as one array and turned back into rows with unnest.
+     * @param notifications notifications to insert, message IDs must be unique
+     * @return IDs of inserted notifications by message ID
+     */
+    public Map<String, Long> insertAll(List<NewNotification> notifications) {
+        int size = notifications.size();
+        String[] zipFileNames = new String[size];
+        String[] poBoxes = new String[size];
+        String[] containers = new String[size];
+        String[] services = new String[size];
+        String[] documentControlNumbers = new String[size];
+        Short[] errorCodes = new Short[size];
+        String[] errorDescriptions = new String[size];
+        String[] messageIds = new String[size];
+        Short[] clients = new Short[size];
+        Short[] priorities = new Short[size];
+        Long[] fingerprints = new Long[size];
+        for (int i = 0; i < size; i++) {
+            NewNotification notification = notifications.get(i);
+            zipFileNames[i] = notification.zipFileName;
+            poBoxes[i] = notification.poBox;
+            containers[i] = notification.container;
+            services[i] = notification.service;
+            documentControlNumbers[i] = notification.documentControlNumber;
+            errorCodes[i] = notification.errorCode.code;
+            errorDescriptions[i] = notification.errorDescription;
+            messageIds[i] = notification.messageId;
+            clients[i] = NotificationClients.toCode(notification.client);
+            priorities[i] = dispatchPolicy.getPriority(notification.errorCode, notification.service);
+            fingerprints[i] = fingerprint(notification);
+        }
+
+        Map<String, Long> ids = new HashMap<>(size * 2);
+        jdbcTemplate.query(
+            "INSERT INTO notifications (zip_file_name, po_box, container, service, document_control_number, "
+                + "error_code, error_description, created_at, status, message_id, client, priority, "
+                + "dispatch_not_before, fingerprint) "
+                + "SELECT zip_file_name, po_box, container, service, document_control_number, "
+                + "error_code, error_description, CURRENT_TIMESTAMP, :status, message_id, client, priority, "
+                + "CURRENT_TIMESTAMP, fingerprint "
+                + "FROM unnest(:zipFileNames, :poBoxes, :containers, :services, :DCNs, "
+                + ":errorCodes, :errorDescriptions, :messageIds, :clients, :priorities, :fingerprints) "
+                + "AS n(zip_file_name, po_box, container, service, document_control_number, "
+                + "error_code, error_description, message_id, client, priority, fingerprint) "
+                + "RETURNING id, message_id",
+            new MapSqlParameterSource()
+                .addValue(STATUS, PENDING.code)
+                .addValue("zipFileNames", zipFileNames)
+                .addValue("poBoxes", poBoxes)
+                .addValue("containers", containers)
+                .addValue("services", services)
+                .addValue("DCNs", documentControlNumbers)
+                .addValue("errorCodes", errorCodes)
+                .addValue("errorDescriptions", errorDescriptions)
+                .addValue("messageIds", messageIds)
+                .addValue("clients", clients)
+                .addValue("priorities", priorities)
+                .addValue("fingerprints", fingerprints),
+            (RowCallbackHandler) rs -> ids.put(rs.getString("message_id"), rs.getLong("id"))
+        );
+
+        if (!ids.isEmpty()) {
+            // one wake-up for the whole batch, which is due now
+            wakeUpPendingListeners(0);
+        }
+        return ids;
+    }
+
+    /**
+     * Wakes up the dispatcher when new notifications become due, see PendingNotificationsListener.
+     * NOTIFY is delivered to listeners only once the surrounding transaction commits, its payload is the delay
+     * in seconds after which the notifications are due. It is skipped when nobody listens or when the fixed delay
+     * schedule of the dispatcher runs before the notifications are due anyway.
+     */
+    private void wakeUpPendingListeners(long delayInSeconds) {
+        if (listenEnabled && delayInSeconds * 1000 < pollIntervalInMs) {
+            notifyPendingListeners(String.valueOf(delayInSeconds));
+        }
+    }
+
+    private void notifyPendingListeners(String payload) {
+        jdbcTemplate.query(
+            "SELECT pg_notify(:channel, :payload)",
+            new MapSqlParameterSource()
+                .addValue("channel", PENDING_NOTIFICATIONS_CHANNEL)
+                .addValue("payload", payload),
+            (RowCallbackHandler) rs -> {
+                // pg_notify returns void
+            }
+        );
+    }
+
+    private static long fingerprint(NewNotification notification) {
+        return NotificationFingerprint.of(notification.zipFileName, notification.errorCode, notification.service);
+    }
+
+    private long delayInSeconds(NewNotification notification) {
+        return dispatchPolicy.getDelay(notification.errorCode, notification.service, notification.client).toSeconds();
+    }
+
+    public boolean existsByMessageId(String messageId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM notifications WHERE message_id = :messageId)",
+            new MapSqlParameterSource("messageId", messageId),
+            Boolean.class
+        ));
+    }
+
+    public List<Notification> findByMessageIds(List<String> messageIds) {
+        return jdbcTemplate.query(
+            "SELECT * FROM notifications WHERE message_id = ANY(:messageIds) " + ORDER_BY_ID,
+            new MapSqlParameterSource("messageIds", messageIds.toArray(new String[0])),
+            mapper
+        );
+    }
+
+    /**
+     * Holds a lock until the end of the current transaction. Concurrent batch submissions of the same service
+     * wait for each other, so an idempotency key can't be inserted twice by requests sent at the same time.
+     * @param service service submitting the batch
+     */
+    public void lockBatchSubmission(String service) {
+        jdbcTemplate.query(
+            "SELECT pg_advisory_xact_lock(hashtext(:lockName))",
+            new MapSqlParameterSource("lockName", "notifications_batch_" + service),
+            (ResultSetExtractor<Void>) rs -> null
+        );
+    }
+
     /**
      * Saves a notification to the notifications table.
-     * Uses JDBC to first insert the notification into the table. The notification is
-     * saved with an initial status of CREATED. The primary key (notification ID)
-     * that is generated for the item is then captured to use in a 'SELECT' query so that the newly
-     * inserted notification can be found and returned to the method caller.
+     * Uses JDBC to insert the notification into the table. The notification is
+     * saved with an initial status of CREATED. The inserted row, with its generated
+     * notification ID, is returned to the method caller.
      * @param notification the notification that should be saved
      * @return notification that was saved
      */
     public Notification save(NewNotification notification) {
         try {
-            KeyHolder keyHolder = new GeneratedKeyHolder();
-
-            jdbcTemplate.update(
+            return jdbcTemplate.queryForObject(
                 "INSERT INTO notifications (zip_file_name, po_box, container, service, document_control_number, "
                     + "error_code, error_description, created_at, status, message_id, client) "
                     + "VALUES ( :zipFileName, :poBox, :container, :service, :DCN, :errorCode, "
                     + ":errorDescription, CURRENT_TIMESTAMP, :status, :messageId, :client"
-                    + ")",
+                    + ") RETURNING *",
                 new MapSqlParameterSource()
                     .addValue(ZIP_FILE_NAME, notification.zipFileName)
                     .addValue("poBox", notification.poBox)
                     .addValue("container", notification.container)
                     .addValue("service", notification.service)
                     .addValue("DCN", notification.documentControlNumber)
-                    .addValue("errorCode", notification.errorCode.name())
+                    .addValue("errorCode", notification.errorCode.code)
                     .addValue("errorDescription", notification.errorDescription)
-                    .addValue(STATUS, CREATED.name())
+                    .addValue(STATUS, CREATED.code)
                     .addValue("messageId", notification.messageId)
-                    .addValue("client", notification.client),
-                keyHolder,
-                new String[]{"id"}
-            );
-
-            return jdbcTemplate.queryForObject(
-                "SELECT * FROM notifications WHERE id = :id",
-                new MapSqlParameterSource("id", keyHolder.getKey()),
+                    .addValue("client", NotificationClients.toCode(notification.client)),
                 mapper
             );
-
         } catch (DuplicateKeyException ex) {
             throw new DuplicateMessageIdException(
                 String.format(
@@ -187,20 +463,40 @@ public class NotificationRepository {
     /**
      * Mark notification as sent.
      * @param id notification ID
+     * @param createdAt creation time of the notification
      * @param confirmationId ID provided by API after successfully sending notification
      * @return update was successful
      */
-    public boolean markAsSent(long id, String confirmationId) { //TODO: FACT-2026
+    public boolean markAsSent(long id, Instant createdAt, String confirmationId) { //TODO: FACT-2026
         int rowsUpdated = jdbcTemplate.update(
             "UPDATE notifications "
                 + "SET confirmation_id = :confirmationId, "
                 + "  processed_at = NOW(), "
                 + "  status = :status "
-                + "WHERE id = :id",
-            new MapSqlParameterSource()
+                + WHERE_ID,
+            byId(id, createdAt)
                 .addValue("confirmationId", confirmationId)
-                .addValue(STATUS, SENT.name())
-                .addValue("id", id)
+                .addValue(STATUS, SENT.code)
+        );
+
+        return rowsUpdated == 1;
+    }
+
+    /**
+     * Leaves notification pending until the given time, supplier asked to retry later.
+     * @param id notification ID
+     * @param createdAt creation time of the notification
+     * @param retryAfter time before which the notification is not picked up by the dispatcher
+     * @return update was successful
+     */
+    public boolean deferUntil(long id, Instant createdAt, Instant retryAfter) {
+        int rowsUpdated = jdbcTemplate.update(
+            "UPDATE notifications "
+                + "SET retry_after = :retryAfter, "
+                + "  dispatch_not_before = GREATEST(dispatch_not_before, :retryAfter) "
+                + WHERE_ID,
+            byId(id, createdAt)
+                .addValue("retryAfter", Timestamp.from(retryAfter))
         );
 
         return rowsUpdated == 1;
@@ -210,17 +506,37 @@ public class NotificationRepository {
      * Mark notification as failed.
      *
      * @param id notification ID
+     * @param createdAt creation time of the notification
      * @return update was successful
      */
-    public boolean markAsFailure(long id) { //TODO: FACT-2026
+    public boolean markAsFailure(long id, Instant createdAt) { //TODO: FACT-2026
         int rowsUpdated = jdbcTemplate.update(
             "UPDATE notifications "
                 + "SET processed_at = NOW(), "
                 + "  status = :status "
-                + "WHERE id = :id",
-            new MapSqlParameterSource()
-                .addValue(STATUS, FAILED.name())
-                .addValue("id", id)
+                + WHERE_ID,
+            byId(id, createdAt)
+                .addValue(STATUS, FAILED.code)
+        );
+
+        return rowsUpdated == 1;
+    }
+
+    /**
+     * Mark notification as unconfirmed, the supplier may have received it but did not confirm it.
+     * Unconfirmed notifications are not picked up by the dispatcher again.
+     * @param id notification ID
+     * @param createdAt creation time of the notification
+     * @return update was successful
+     */
+    public boolean markAsUnconfirmed(long id, Instant createdAt) {
+        int rowsUpdated = jdbcTemplate.update(
+            "UPDATE notifications "
+                + "SET processed_at = NOW(), "
+                + "  status = :status "
+                + WHERE_ID,
+            byId(id, createdAt)
+                .addValue(STATUS, UNCONFIRMED.code)
         );
 
         return rowsUpdated == 1;
@@ -229,25 +545,21 @@ public class NotificationRepository {
     /**
      * Updates the status column of a notification row in the Notifications table
      * to have the status of FAILED.
-     * Uses JDBC update to set the processed at column to now and the status column to FAILED.
-     * It then uses a 'SELECT' to find the updated notification and return to the method caller.
+     * Uses JDBC update to set the processed at column to now and the status column to FAILED,
+     * the updated notification is returned to the method caller.
      * @param notificationId the ID of the notification whose status should be updated
+     * @param createdAt creation time of the notification
      * @return notification that was updated
      */
-    public Notification updateNotificationStatusAsFail(long notificationId) {
-        jdbcTemplate.update(
+    public Notification updateNotificationStatusAsFail(long notificationId, Instant createdAt) {
+        return jdbcTemplate.queryForObject(
             "UPDATE notifications "
                 + "SET processed_at = NOW(), "
                 + "  status = :status "
-                + "WHERE id = :id",
-            new MapSqlParameterSource()
-                .addValue(STATUS, FAILED.name())
-                .addValue("id", notificationId)
-        );
-
-        return jdbcTemplate.queryForObject(
-            "SELECT * FROM notifications WHERE id = :id",
-            new MapSqlParameterSource("id", notificationId),
+                + WHERE_ID + " "
+                + "RETURNING *",
+            byId(notificationId, createdAt)
+                .addValue(STATUS, FAILED.code),
             mapper
         );
     }
@@ -257,28 +569,31 @@ public class NotificationRepository {
      * to have the status of SENT.
      * Uses JDBC update to set the processed at column to now, the status column to SENT
      * and the confirmation ID (supplier ID) column to the given ID.
-     * It then uses a 'SELECT' to find the notification that was updated to return to method caller
+     * The updated notification is returned to method caller
      * @param notificationId the ID of the notification that should be updated
+     * @param createdAt creation time of the notification
      * @param confirmationId the ID returned by the supplier when it was notified
      * @return notification that was updated
      */
-    public Notification updateNotificationStatusAsSent(long notificationId, String confirmationId) {
-        jdbcTemplate.update(
+    public Notification updateNotificationStatusAsSent(long notificationId, Instant createdAt, String confirmationId) {
+        return jdbcTemplate.queryForObject(
             "UPDATE notifications "
                 + "SET confirmation_id = :confirmationId, "
                 + "  processed_at = NOW(), "
                 + "  status = :status "
-                + "WHERE id = :id",
-            new MapSqlParameterSource()
+                + WHERE_ID + " "
+                + "RETURNING *",
+            byId(notificationId, createdAt)
                 .addValue("confirmationId", confirmationId)
-                .addValue(STATUS, SENT.name())
-                .addValue("id", notificationId)
-        );
-
-        return jdbcTemplate.queryForObject(
-            "SELECT * FROM notifications WHERE id = :id",
-            new MapSqlParameterSource("id", notificationId),
+                .addValue(STATUS, SENT.code),
             mapper
         );
     }
+
+    private static MapSqlParameterSource byId(long id, Instant createdAt) {
+        return new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("createdAtFrom", Timestamp.from(createdAt.minus(CREATED_AT_TOLERANCE)))
+            .addValue("createdAtTo", Timestamp.from(createdAt.plus(CREATED_AT_TOLERANCE)));
+    }
 }
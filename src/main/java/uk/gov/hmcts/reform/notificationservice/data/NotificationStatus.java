@@ -2,11 +2,36 @@ package uk.gov.hmcts.reform.notificationservice.data;
 
 public enum NotificationStatus {
 
-    PENDING, //TODO: FACT-2026
-    FAILED,
-    SENT,
+    PENDING(0), //TODO: FACT-2026
+    FAILED(1),
+    SENT(2),
     // To be used when there are issues and records needs to be closed manually
-    MANUALLY_HANDLED,
+    MANUALLY_HANDLED(3),
     //Initial insertion status for notifications created by the POST endpoint
-    CREATED
+    CREATED(4),
+    // Sent in a batch the supplier may have accepted without confirming every notification,
+    // not sent again automatically so the supplier does not get duplicates. Needs to be checked manually
+    UNCONFIRMED(5);
+
+    private static final NotificationStatus[] BY_CODE = new NotificationStatus[values().length];
+
+    static {
+        for (NotificationStatus status : values()) {
+            BY_CODE[status.code] = status;
+        }
+    }
+
+    // value stored in the database, must never change once released
+    public final short code;
+
+    NotificationStatus(int code) {
+        this.code = (short) code;
+    }
+
+    public static NotificationStatus fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown notification status code: " + code);
+        }
+        return BY_CODE[code];
+    }
 }
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.notificationservice.data;
+
+import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+
+import java.time.LocalDate;
+
+public class NotificationSummary {
+
+    public final LocalDate date;
+    public final String service;
+    public final NotificationStatus status;
+    public final ErrorCode errorCode;
+    public final String client;
+    public final long count;
+
+    public NotificationSummary(
+        LocalDate date,
+        String service,
+        NotificationStatus status,
+        ErrorCode errorCode,
+        String client,
+        long count
+    ) {
+        this.date = date;
+        this.service = service;
+        this.status = status;
+        this.errorCode = errorCode;
+        this.client = client;
+        this.count = count;
+    }
+}
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.notificationservice.data;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public class NotificationSummaryRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public NotificationSummaryRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<NotificationSummary> find(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+            "SELECT * FROM notification_daily_summary "
+                + "WHERE summary_date BETWEEN :from AND :to "
+                + "ORDER BY summary_date, service, status, error_code, client",
+            new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to),
+            (rs, rowNum) -> new NotificationSummary(
+                rs.getDate("summary_date").toLocalDate(),
+                rs.getString("service"),
+                NotificationStatus.fromCode(rs.getShort("status")),
+                ErrorCode.fromCode(rs.getShort("error_code")),
+                NotificationClients.fromCode(rs.getShort("client")),
+                rs.getLong("notifications_count")
+            )
+        );
+    }
+
+    /**
+     * Recalculates summary rows for notifications created on or after given date.
+     * Both live and archived notifications are counted so archiving does not change the summary.
+     * Has to be run in a transaction, otherwise readers can see the days being recalculated as empty.
+     * @param from first day to recalculate
+     * @return number of summary rows written
+     */
+    public int refresh(LocalDate from) {
+        var params = new MapSqlParameterSource()
+            .addValue("from", from)
+            .addValue("fromTimestamp", from.atStartOfDay());
+
+        jdbcTemplate.update("DELETE FROM notification_daily_summary WHERE summary_date >= :from", params);
+
+        return jdbcTemplate.update(
+            "INSERT INTO notification_daily_summary "
+                + "(summary_date, service, status, error_code, client, notifications_count) "
+                + "SELECT DATE(created_at), service, status, error_code, COALESCE(client, 0), COUNT(*) "
+                + "FROM ("
+                + "  SELECT created_at, service, status, error_code, client FROM notifications"
+                + "  WHERE created_at >= :fromTimestamp"
+                + "  UNION ALL"
+                + "  SELECT created_at, service, status, error_code, client FROM notifications_archive"
+                + "  WHERE created_at >= :fromTimestamp"
+                + ") AS all_notifications "
+                + "GROUP BY 1, 2, 3, 4, 5",
+            params
+        );
+    }
+}
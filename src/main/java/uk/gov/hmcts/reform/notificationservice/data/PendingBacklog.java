@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.notificationservice.data;
+
+import java.time.Instant;
+
+/**
+ * Pending notifications of a single client.
+ */
+public class PendingBacklog {
+
+    public final String client;
+    public final long count;
+    // when the longest waiting notification became due, may be in the future. Null when there are none
+    public final Instant oldestDueAt;
+
+    public PendingBacklog(String client, long count, Instant oldestDueAt) {
+        this.client = client;
+        this.count = count;
+        this.oldestDueAt = oldestDueAt;
+    }
+}
@@ -8,5 +8,7 @@ public class InvalidMessageException extends RuntimeException {
         super(message);
     }
 
-    public InvalidMessageException(IOException exc) {}
+    public InvalidMessageException(IOException exc) {
+        super(exc.getMessage(), exc);
+    }
 }
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.notificationservice.health;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.notificationservice.data.PendingBacklog;
+import uk.gov.hmcts.reform.notificationservice.service.PendingBacklogService;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reports the pending notifications backlog. Health is {@link #DEGRADED} when a pending notification
+ * of any client has been due for longer than the configured lag SLO. Lag is measured from the moment
+ * the notification became due, the send delay is not counted.
+ * DEGRADED is mapped to HTTP 200, so it is informative only and does not take the instance out of service.
+ */
+@Component
+public class PendingBacklogHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "Pending notifications lag breaches the SLO");
+
+    private final PendingBacklogService pendingBacklogService;
+    private final Duration lagSlo;
+
+    public PendingBacklogHealthIndicator(
+        PendingBacklogService pendingBacklogService,
+        @Value("${scheduling.task.pending-backlog-metrics.lag-slo-in-minutes:60}") int lagSloInMinutes
+    ) {
+        this.pendingBacklogService = pendingBacklogService;
+        this.lagSlo = Duration.ofMinutes(lagSloInMinutes);
+    }
+
+    @Override
+    public Health health() {
+        Optional<PendingBacklogService.Measurement> latest = pendingBacklogService.getLatest();
+        if (latest.isEmpty()) {
+            return Health.unknown().withDetail("reason", "Pending backlog not measured yet").build();
+        }
+
+        PendingBacklogService.Measurement measurement = latest.get();
+        Duration maxLag = Duration.ZERO;
+        Map<String, Object> clients = new LinkedHashMap<>();
+        for (PendingBacklog backlog : measurement.backlog) {
+            Duration lag = backlog.oldestDueAt == null || backlog.oldestDueAt.isAfter(measurement.measuredAt)
+                ? Duration.ZERO
+                : Duration.between(backlog.oldestDueAt, measurement.measuredAt);
+            if (lag.compareTo(maxLag) > 0) {
+                maxLag = lag;
+            }
+            clients.put(backlog.client, Map.of("pending", backlog.count, "lagInSeconds", lag.toSeconds()));
+        }
+
+        return Health.status(maxLag.compareTo(lagSlo) > 0 ? DEGRADED : Status.UP)
+            .withDetail("measuredAt", measurement.measuredAt.toString())
+            .withDetail("lagSloInSeconds", lagSlo.toSeconds())
+            .withDetail("maxLagInSeconds", maxLag.toSeconds())
+            .withDetail("clients", clients)
+            .build();
+    }
+}
@@ -0,0 +1,204 @@
+package uk.gov.hmcts.reform.notificationservice.metrics;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.notificationservice.data.LaneBacklog;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationClients;
+import uk.gov.hmcts.reform.notificationservice.data.PendingBacklog;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Meters covering the notification intake (queue message parse, insert, duplicates, dead letters)
+ * and dispatch (supplier calls and their outcome per client) paths, plus the pending backlog.
+ */
+@Component
+public class NotificationMetrics {
+
+    public static final String OUTCOME_SENT = "sent";
+    public static final String OUTCOME_FAILED = "failed";
+    public static final String OUTCOME_POSTPONED = "postponed";
+    public static final String OUTCOME_DEFERRED = "deferred";
+    public static final String OUTCOME_COALESCED = "coalesced";
+    public static final String OUTCOME_UNCONFIRMED = "unconfirmed";
+
+    public static final String LOCK_LOST_BEFORE_PROCESSING = "before_processing";
+    public static final String LOCK_LOST_BEFORE_INSERT = "before_insert";
+    public static final String LOCK_LOST_ON_SETTLEMENT = "settlement";
+
+    private static final String CLIENT = "client";
+
+    private final MeterRegistry registry;
+    private final Timer parseTimer;
+    private final Timer insertTimer;
+    private final Counter duplicateCounter;
+    private final Map<String, AtomicLong> pendingCounts = new HashMap<>();
+    private final Map<String, AtomicLong> oldestPendingEpochSeconds = new HashMap<>();
+    // registered on first sight of a lane, services come and go with the data
+    private final Map<List<String>, AtomicLong> lanePendingCounts = new ConcurrentHashMap<>();
+
+    public NotificationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.parseTimer = Timer.builder("notifications.message.parse")
+            .description("Time taken to parse a notification message")
+            .register(registry);
+        this.insertTimer = Timer.builder("notifications.insert")
+            .description("Time taken to store a notification received from the queue")
+            .register(registry);
+        this.duplicateCounter = Counter.builder("notifications.message.duplicate")
+            .description("Queue messages which were already stored")
+            .register(registry);
+
+        // registered up front for every client so the gauges report 0 rather than disappear when drained
+        for (String client : List.of(NotificationClients.PRIMARY, NotificationClients.SECONDARY)) {
+            AtomicLong pendingCount = new AtomicLong();
+            AtomicLong oldestPendingEpochSecond = new AtomicLong();
+            pendingCounts.put(client, pendingCount);
+            oldestPendingEpochSeconds.put(client, oldestPendingEpochSecond);
+
+            Gauge.builder("notifications.pending", pendingCount, AtomicLong::get)
+                .description("Number of pending notifications")
+                .tag(CLIENT, client)
+                .register(registry);
+            Gauge.builder("notifications.pending.oldest.age", oldestPendingEpochSecond, this::oldestPendingAge)
+                .description("Time the longest waiting pending notification has been due for")
+                .tag(CLIENT, client)
+                .baseUnit("seconds")
+                .register(registry);
+        }
+    }
+
+    public <T> T recordParse(Supplier<T> parse) {
+        return parseTimer.record(parse);
+    }
+
+    public <T> T recordInsert(Supplier<T> insert) {
+        return insertTimer.record(insert);
+    }
+
+    public void duplicateMessage() {
+        duplicateCounter.increment();
+    }
+
+    public void deadLettered(String reason) {
+        Counter.builder("notifications.message.dead_letter")
+            .description("Dead-lettered notification messages")
+            .tag("reason", reason)
+            .register(registry)
+            .increment();
+    }
+
+    /**
+     * Queue message lock expired, the message is (or will be) redelivered.
+     */
+    public void lockLost(String stage) {
+        Counter.builder("notifications.message.lock_lost")
+            .description("Notification messages whose lock expired before they were settled")
+            .tag("stage", stage)
+            .register(registry)
+            .increment();
+    }
+
+    public void dispatched(String client, String outcome) {
+        Counter.builder("notifications.dispatch")
+            .description("Notifications processed by the dispatcher")
+            .tag(CLIENT, String.valueOf(client))
+            .tag("outcome", outcome)
+            .register(registry)
+            .increment();
+    }
+
+    /**
+     * Times a call to the supplier API. Calls are tagged with the client and the response status:
+     * {@code success} for any 2xx response, the HTTP status of a failed response
+     * or {@code error} when no response was received.
+     */
+    public <T> T recordSupplierCall(String client, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(registry);
+        String status = "success";
+        try {
+            return call.get();
+        } catch (FeignException exc) {
+            status = exc.status() > 0 ? String.valueOf(exc.status()) : "error";
+            throw exc;
+        } catch (RuntimeException exc) {
+            status = "error";
+            throw exc;
+        } finally {
+            sample.stop(
+                Timer.builder("notifications.supplier.call")
+                    .description("Supplier API call latency")
+                    .tag(CLIENT, String.valueOf(client))
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(5))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(registry)
+            );
+        }
+    }
+
+    /**
+     * Sets the pending backlog gauges. Clients missing from the backlog have no pending notifications.
+     */
+    public void updatePendingBacklog(List<PendingBacklog> backlog) {
+        Map<String, PendingBacklog> byClient = new HashMap<>();
+        for (PendingBacklog clientBacklog : backlog) {
+            byClient.put(clientBacklog.client, clientBacklog);
+        }
+
+        // every gauge is set once, a scrape never sees it reset in between
+        pendingCounts.forEach((client, pendingCount) -> {
+            PendingBacklog clientBacklog = byClient.get(client);
+            pendingCount.set(clientBacklog == null ? 0 : clientBacklog.count);
+            oldestPendingEpochSeconds.get(client).set(
+                clientBacklog == null || clientBacklog.oldestDueAt == null
+                    ? 0
+                    : clientBacklog.oldestDueAt.getEpochSecond()
+            );
+        });
+    }
+
+    /**
+     * Sets the pending backlog gauges of dispatch lanes. Lanes missing from the backlog have no pending notifications.
+     */
+    public void updateLaneBacklog(List<LaneBacklog> backlog) {
+        Map<List<String>, Long> counts = new HashMap<>();
+        for (LaneBacklog laneBacklog : backlog) {
+            counts.put(
+                List.of(String.valueOf(laneBacklog.service), String.valueOf(laneBacklog.client)),
+                laneBacklog.count
+            );
+        }
+
+        // every gauge is set once, a scrape never sees it reset in between
+        counts.keySet().forEach(lane -> lanePendingCounts.computeIfAbsent(lane, this::registerLaneGauge));
+        lanePendingCounts.forEach((lane, pendingCount) -> pendingCount.set(counts.getOrDefault(lane, 0L)));
+    }
+
+    private AtomicLong registerLaneGauge(List<String> lane) {
+        AtomicLong pendingCount = new AtomicLong();
+        Gauge.builder("notifications.pending.lane", pendingCount, AtomicLong::get)
+            .description("Number of pending notifications of a service and client")
+            .tag("service", lane.get(0))
+            .tag(CLIENT, lane.get(1))
+            .register(registry);
+        return pendingCount;
+    }
+
+    private double oldestPendingAge(AtomicLong oldestEpochSecond) {
+        long oldest = oldestEpochSecond.get();
+        return oldest == 0 ? 0 : Math.max(0, Instant.now().getEpochSecond() - oldest);
+    }
+}
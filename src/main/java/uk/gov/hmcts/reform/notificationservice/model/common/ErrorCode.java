@@ -2,12 +2,34 @@ package uk.gov.hmcts.reform.notificationservice.model.common;
 
 public enum ErrorCode {
 
-    ERR_FILE_LIMIT_EXCEEDED, // size too big
-    ERR_METAFILE_INVALID,
-    ERR_PAYMENTS_DISABLED, //payments not allowed for the container or not allowed in specific environment
-    ERR_SERVICE_DISABLED, // service is disabled in specific environment
-    ERR_AV_FAILED, // antivirus scan failed
-    ERR_SIG_VERIFY_FAILED, // signature does not match the zip content
-    ERR_RESCAN_REQUIRED,
-    ERR_ZIP_PROCESSING_FAILED, // invalid zip file content
+    ERR_FILE_LIMIT_EXCEEDED(0), // size too big
+    ERR_METAFILE_INVALID(1),
+    ERR_PAYMENTS_DISABLED(2), //payments not allowed for the container or not allowed in specific environment
+    ERR_SERVICE_DISABLED(3), // service is disabled in specific environment
+    ERR_AV_FAILED(4), // antivirus scan failed
+    ERR_SIG_VERIFY_FAILED(5), // signature does not match the zip content
+    ERR_RESCAN_REQUIRED(6),
+    ERR_ZIP_PROCESSING_FAILED(7); // invalid zip file content
+
+    private static final ErrorCode[] BY_CODE = new ErrorCode[values().length];
+
+    static {
+        for (ErrorCode errorCode : values()) {
+            BY_CODE[errorCode.code] = errorCode;
+        }
+    }
+
+    // value stored in the database, must never change once released
+    public final short code;
+
+    ErrorCode(int code) {
+        this.code = (short) code;
+    }
+
+    public static ErrorCode fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown error code: " + code);
+        }
+        return BY_CODE[code];
+    }
 }
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.notificationservice.model.in;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Bulk look-up of notifications. A notification is returned when it matches any of the given values.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class NotificationSearchRequest {
+
+    @JsonProperty("zip_file_names")
+    public final List<String> zipFileNames;
+    @JsonProperty("document_control_numbers")
+    public final List<String> documentControlNumbers;
+    @JsonProperty("notification_ids")
+    public final List<Long> notificationIds;
+
+}
@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.notificationservice.model.in;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * Single notification of a batch. Resubmitting an item with the same idempotency key returns
+ * the notification saved the first time instead of creating a new one.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class NotifyBatchItem {
+
+    @NotBlank
+    @Size(max = 100)
+    @JsonProperty(value = "idempotency_key", required = true)
+    public final String idempotencyKey;
+    @NotNull
+    @Valid
+    @JsonProperty(value = "notification", required = true)
+    public final NotifyRequest notification;
+
+}
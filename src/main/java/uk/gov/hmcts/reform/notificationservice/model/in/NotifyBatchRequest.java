@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.notificationservice.model.in;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * A batch of notifications to be saved and sent to suppliers in the background.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class NotifyBatchRequest {
+
+    public static final int MAX_BATCH_SIZE = 100;
+
+    @NotEmpty
+    @Size(max = MAX_BATCH_SIZE)
+    @Valid
+    @JsonProperty(value = "notifications", required = true)
+    public final List<NotifyBatchItem> notifications;
+
+}
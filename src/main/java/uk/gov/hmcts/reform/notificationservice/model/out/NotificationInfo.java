@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.notificationservice.model.out;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.swagger.v3.oas.annotations.media.Schema;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationStatus;
 import uk.gov.hmcts.reform.notificationservice.util.CustomInstantSerializer;
 
 import java.time.Instant;
@@ -65,7 +66,7 @@ public class NotificationInfo {
 
     @JsonProperty("status")
     @Schema(title = "End state", name = "status", description = "Current end state of the notification")
-    public final String status;
+    public final NotificationStatus status;
 
     public NotificationInfo(
         long id,
@@ -79,7 +80,7 @@ public class NotificationInfo {
         String errorDescription,
         Instant createdAt,
         Instant processedAt,
-        String status
+        NotificationStatus status
     ) {
         this.id = String.valueOf(id);
         this.confirmationId = confirmationId;
@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.notificationservice.model.out;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+public class NotificationSearchResponse {
+
+    @JsonProperty("count")
+    @Schema(title = "Notification count", name = "count", description = "Number of notifications found")
+    public final int count;
+
+    @JsonProperty("zip_files")
+    @Schema(
+        title = "Notifications by zip file",
+        name = "zip_files",
+        description = "Notifications found, grouped by zip file name. Zip files without notifications are not listed"
+    )
+    public final Map<String, List<NotificationInfo>> zipFiles;
+
+    public NotificationSearchResponse(int count, Map<String, List<NotificationInfo>> zipFiles) {
+        this.count = count;
+        this.zipFiles = zipFiles;
+    }
+}
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.notificationservice.model.out;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+public class NotificationSummaryInfo {
+
+    @JsonProperty("date")
+    @Schema(title = "Date", name = "date", description = "Date notifications were created on")
+    public final LocalDate date;
+
+    @JsonProperty("service")
+    @Schema(title = "Service", name = "service")
+    public final String service;
+
+    @JsonProperty("status")
+    @Schema(title = "Notification status", name = "status")
+    public final String status;
+
+    @JsonProperty("error_code")
+    @Schema(title = "Error code", name = "error_code", description = "Agreed error code")
+    public final String errorCode;
+
+    @JsonProperty("client")
+    @Schema(title = "Client", name = "client", description = "Supplier client notifications are sent with")
+    public final String client;
+
+    @JsonProperty("count")
+    @Schema(title = "Notification count", name = "count")
+    public final long count;
+
+    public NotificationSummaryInfo(
+        LocalDate date,
+        String service,
+        String status,
+        String errorCode,
+        String client,
+        long count
+    ) {
+        this.date = date;
+        this.service = service;
+        this.status = status;
+        this.errorCode = errorCode;
+        this.client = client;
+        this.count = count;
+    }
+}
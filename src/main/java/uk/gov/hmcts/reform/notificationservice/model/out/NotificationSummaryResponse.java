@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.notificationservice.model.out;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class NotificationSummaryResponse {
+
+    @JsonProperty("from")
+    @Schema(title = "From", name = "from", description = "First day of the summary")
+    public final LocalDate from;
+
+    @JsonProperty("to")
+    @Schema(title = "To", name = "to", description = "Last day of the summary (inclusive)")
+    public final LocalDate to;
+
+    @JsonProperty("total")
+    @Schema(title = "Total", name = "total", description = "Number of notifications created in given days")
+    public final long total;
+
+    @JsonProperty("summary")
+    @Schema(
+        title = "Summary",
+        name = "summary",
+        description = "Notification counts by date, service, status, error code and client"
+    )
+    public final List<NotificationSummaryInfo> summary;
+
+    public NotificationSummaryResponse(LocalDate from, LocalDate to, List<NotificationSummaryInfo> summary) {
+        this.from = from;
+        this.to = to;
+        this.summary = summary;
+        this.total = summary.stream().mapToLong(info -> info.count).sum();
+    }
+}
@@ -5,7 +5,6 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import uk.gov.hmcts.reform.notificationservice.data.NotificationStatus;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class NotificationsResponse {
 
@@ -29,30 +28,48 @@ public class NotificationsResponse {
     )
     public final int sentNotificationsCount;
 
+    @JsonProperty("failedNotificationsCount")
+    @Schema(
+        title = "Failed Notification count",
+        name = "failedNotificationsCount",
+        description = "Number of notifications with 'Failed' status"
+    )
+    public final int failedNotificationsCount;
+
+    @JsonProperty("createdNotificationsCount")
+    @Schema(
+        title = "Created Notification count",
+        name = "createdNotificationsCount",
+        description = "Number of notifications with 'Created' status"
+    )
+    public final int createdNotificationsCount;
+
+    @JsonProperty("manuallyHandledNotificationsCount")
+    @Schema(
+        title = "Manually handled Notification count",
+        name = "manuallyHandledNotificationsCount",
+        description = "Number of notifications with 'Manually handled' status"
+    )
+    public final int manuallyHandledNotificationsCount;
+
     @JsonProperty("notifications")
     @Schema(title = "List of notifications", name = "notifications", description = "Full list of notifications found")
     public final List<NotificationInfo> notifications;
 
     public NotificationsResponse(List<NotificationInfo> notifications) {
         this.notifications = notifications;
-        this.count = setNotificationsCount();
-        this.sentNotificationsCount = setSentNotificationsCount();
-        this.pendingNotificationsCount = setPendingNotificationsCount();
-    }
+        this.count = notifications.size();
 
-    private int setNotificationsCount() {
-        return notifications.size();
-    }
-
-    private int setSentNotificationsCount() {
-        return notifications.stream()
-            .filter(n -> n.status.equals(NotificationStatus.SENT.name()))
-            .collect(Collectors.toList()).size();
-    }
+        // single pass over the list, indexed by status code
+        int[] countsByStatus = new int[NotificationStatus.values().length];
+        for (NotificationInfo notification : notifications) {
+            countsByStatus[notification.status.code]++;
+        }
 
-    private int setPendingNotificationsCount() {
-        return notifications.stream()
-            .filter(n -> n.status.equals(NotificationStatus.PENDING.name()))
-            .collect(Collectors.toList()).size();
+        this.pendingNotificationsCount = countsByStatus[NotificationStatus.PENDING.code];
+        this.sentNotificationsCount = countsByStatus[NotificationStatus.SENT.code];
+        this.failedNotificationsCount = countsByStatus[NotificationStatus.FAILED.code];
+        this.createdNotificationsCount = countsByStatus[NotificationStatus.CREATED.code];
+        this.manuallyHandledNotificationsCount = countsByStatus[NotificationStatus.MANUALLY_HANDLED.code];
     }
 }
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.notificationservice.model.out;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationStatus;
+
+public class NotifyBatchItemInfo {
+
+    @JsonProperty("idempotency_key")
+    @Schema(title = "Idempotency key", name = "idempotency_key", description = "Key given in the request")
+    public final String idempotencyKey;
+
+    @JsonProperty("id")
+    @Schema(title = "Notification internal ID", name = "id", description = "Autogenerated DB ID")
+    public final String id;
+
+    @JsonProperty("status")
+    @Schema(title = "Status", name = "status", description = "Current state of the notification")
+    public final NotificationStatus status;
+
+    @JsonProperty("duplicate")
+    @Schema(
+        title = "Duplicate",
+        name = "duplicate",
+        description = "True when the notification was saved by an earlier request with the same idempotency key"
+    )
+    public final boolean duplicate;
+
+    public NotifyBatchItemInfo(String idempotencyKey, long id, NotificationStatus status, boolean duplicate) {
+        this.idempotencyKey = idempotencyKey;
+        this.id = String.valueOf(id);
+        this.status = status;
+        this.duplicate = duplicate;
+    }
+}
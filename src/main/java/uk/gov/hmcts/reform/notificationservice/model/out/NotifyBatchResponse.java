@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.notificationservice.model.out;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public class NotifyBatchResponse {
+
+    @JsonProperty("notifications")
+    @Schema(
+        title = "Notifications of the batch",
+        name = "notifications",
+        description = "Saved notifications, in the order of the request"
+    )
+    public final List<NotifyBatchItemInfo> notifications;
+
+    public NotifyBatchResponse(List<NotifyBatchItemInfo> notifications) {
+        this.notifications = notifications;
+    }
+}
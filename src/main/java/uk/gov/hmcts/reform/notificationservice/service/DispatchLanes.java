@@ -0,0 +1,142 @@
+package uk.gov.hmcts.reform.notificationservice.service;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.notificationservice.data.Notification;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Splits pending notifications into lanes, one per service and client, and interleaves the lanes
+ * with smooth weighted round robin. A burst of errors in one service then delays other services
+ * by at most a few notifications rather than by the whole burst.
+ * Priorities are taken in turn, highest first, lanes only take turns within the same priority.
+ * <p>
+ * Lanes are not dispatched concurrently. The dispatcher runs in a single thread under the scheduler lock
+ * and calls are shaped per client by {@link SupplierRateLimiter}, so lanes get fair turns rather than their own
+ * concurrency limit, and a lane is capped by the number of notifications it may send in a run (max-per-run).
+ * A slow supplier call of one lane still delays the lanes behind it, the time budget of a run bounds how long.
+ * </p>
+ */
+@Component
+public class DispatchLanes {
+
+    private static final Logger log = getLogger(DispatchLanes.class);
+
+    private static final int DEFAULT_WEIGHT = 1;
+
+    private final Map<String, Integer> serviceWeights;
+    private final int maxPerLane;
+
+    public DispatchLanes(
+        // comma separated service:weight pairs, services not listed have weight 1
+        @Value("${scheduling.task.pending-notifications.lanes.weights:}") String weights,
+        @Value("${scheduling.task.pending-notifications.lanes.max-per-run:200}") int maxPerLane
+    ) {
+        this.serviceWeights = parseWeights(weights);
+        this.maxPerLane = maxPerLane;
+    }
+
+    /**
+     * Maximum number of notifications of a single lane sent in one dispatcher run.
+     */
+    public int getMaxPerLane() {
+        return maxPerLane;
+    }
+
+    /**
+     * Orders notifications by priority and, within the same priority, so that each lane gets turns
+     * in proportion to its weight.
+     * @param notifications pending notifications, oldest first within the same priority
+     * @return same notifications, each lane still oldest first within the same priority
+     */
+    public List<Notification> order(List<Notification> notifications) {
+        Map<Integer, List<Notification>> byPriority = new TreeMap<>(Comparator.reverseOrder());
+        for (Notification notification : notifications) {
+            byPriority.computeIfAbsent(notification.priority, priority -> new ArrayList<>()).add(notification);
+        }
+
+        List<Notification> ordered = new ArrayList<>(notifications.size());
+        for (List<Notification> samePriority : byPriority.values()) {
+            interleaveLanes(samePriority, ordered);
+        }
+        return ordered;
+    }
+
+    private void interleaveLanes(List<Notification> notifications, List<Notification> ordered) {
+        Map<String, Lane> lanes = new LinkedHashMap<>();
+        for (Notification notification : notifications) {
+            lanes.computeIfAbsent(
+                notification.service + "/" + notification.client,
+                key -> new Lane(weight(notification.service))
+            ).notifications.add(notification);
+        }
+
+        List<Lane> active = new ArrayList<>(lanes.values());
+        while (!active.isEmpty()) {
+            int totalWeight = 0;
+            Lane next = null;
+            for (Lane lane : active) {
+                lane.credit += lane.weight;
+                totalWeight += lane.weight;
+                if (next == null || lane.credit > next.credit) {
+                    next = lane;
+                }
+            }
+
+            next.credit -= totalWeight;
+            ordered.add(next.notifications.poll());
+            if (next.notifications.isEmpty()) {
+                active.remove(next);
+            }
+        }
+    }
+
+    private int weight(String service) {
+        return service == null
+            ? DEFAULT_WEIGHT
+            : serviceWeights.getOrDefault(service.toLowerCase(Locale.ROOT), DEFAULT_WEIGHT);
+    }
+
+    private static Map<String, Integer> parseWeights(String weights) {
+        Map<String, Integer> parsed = new HashMap<>();
+        for (String pair : weights.split(",")) {
+            if (pair.isBlank()) {
+                continue;
+            }
+            String[] serviceAndWeight = pair.split(":");
+            try {
+                int weight = Integer.parseInt(serviceAndWeight[1].trim());
+                if (weight < 1) {
+                    throw new NumberFormatException("weight must be positive");
+                }
+                parsed.put(serviceAndWeight[0].trim().toLowerCase(Locale.ROOT), weight);
+            } catch (ArrayIndexOutOfBoundsException | NumberFormatException exc) {
+                throw new IllegalArgumentException("Invalid dispatch lane weight: " + pair, exc);
+            }
+        }
+        log.info("Dispatch lane weights: {}", parsed);
+        return parsed;
+    }
+
+    private static final class Lane {
+        final int weight;
+        final ArrayDeque<Notification> notifications = new ArrayDeque<>();
+        int credit;
+
+        Lane(int weight) {
+            this.weight = weight;
+        }
+    }
+}
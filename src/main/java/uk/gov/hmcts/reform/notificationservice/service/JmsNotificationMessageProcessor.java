@@ -1,16 +1,20 @@
 package uk.gov.hmcts.reform.notificationservice.service;
 
-import com.azure.core.util.BinaryData;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.jms.JMSException;
 import org.apache.activemq.command.ActiveMQMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.notificationservice.exception.DuplicateMessageIdException;
 import uk.gov.hmcts.reform.notificationservice.exception.InvalidMessageException;
 import uk.gov.hmcts.reform.notificationservice.exception.UnknownMessageProcessingResultException;
+import uk.gov.hmcts.reform.notificationservice.metrics.NotificationMetrics;
 import uk.gov.hmcts.reform.notificationservice.model.in.NotificationMsg;
+import uk.gov.hmcts.reform.notificationservice.util.LoggingContext;
 
 //TODO: FACT-2026 - whole class can go
 @Service
@@ -21,15 +25,21 @@ public class JmsNotificationMessageProcessor {
     private final NotificationMessageHandler notificationMessageHandler;
     private final NotificationMessageParser notificationMessageParser;
     private final int maxDeliveryCount;
+    private final NotificationMetrics notificationMetrics;
+    private final ObservationRegistry observationRegistry;
 
     public JmsNotificationMessageProcessor(
         NotificationMessageHandler notificationMessageHandler,
         NotificationMessageParser notificationMessageParser,
-        @Value("${queue.notifications.max-delivery-count}") int maxDeliveryCount
+        @Value("${queue.notifications.max-delivery-count}") int maxDeliveryCount,
+        NotificationMetrics notificationMetrics,
+        ObservationRegistry observationRegistry
     ) {
         this.notificationMessageHandler = notificationMessageHandler;
         this.notificationMessageParser = notificationMessageParser;
         this.maxDeliveryCount = maxDeliveryCount;
+        this.notificationMetrics = notificationMetrics;
+        this.observationRegistry = observationRegistry;
     }
 
     /**
@@ -38,26 +48,39 @@ public class JmsNotificationMessageProcessor {
      */
     public void processNextMessage(ActiveMQMessage message, String messageBody) throws JMSException {
         if (message != null && !messageBody.isEmpty()) {
-            try {
-                // DO NOT CHANGE, used in alert
-                log.info("Started processing notification message with ID {}", message.getJMSMessageID());
-                NotificationMsg notificationMsg = notificationMessageParser.parse(BinaryData.fromString(messageBody));
-                notificationMessageHandler.handleNotificationMessage(notificationMsg, message.getJMSMessageID());
-                finaliseProcessedMessage(message, MessageProcessingResult.SUCCESS);
-            } catch (InvalidMessageException ex) {
-                log.error("Invalid notification message with ID: {} ", message.getJMSMessageID(), ex);
-                finaliseProcessedMessage(message, MessageProcessingResult.UNRECOVERABLE_FAILURE);
-            } catch (DuplicateMessageIdException ex) {
-                handleDuplicateMessageId(message, ex.getMessage());
-            } catch (Exception ex) {
-                log.error("Failed to process notification message with ID: {} ", message.getJMSMessageID(), ex);
-                finaliseProcessedMessage(message, MessageProcessingResult.POTENTIALLY_RECOVERABLE_FAILURE);
-            }
+            Observation.createNotStarted("notifications.message.process", observationRegistry)
+                .contextualName("process notification message")
+                .highCardinalityKeyValue("messaging.message.id", String.valueOf(message.getJMSMessageID()))
+                .observeChecked(() -> processMessage(message, messageBody));
         } else {
             log.error("Triggered notification queue process but there is no message !!!");
         }
     }
 
+    private void processMessage(ActiveMQMessage message, String messageBody) throws JMSException {
+        MDC.put(LoggingContext.MESSAGE_ID, message.getJMSMessageID());
+        try {
+            // DO NOT CHANGE, used in alert
+            log.info("Started processing notification message with ID {}", message.getJMSMessageID());
+            NotificationMsg notificationMsg = notificationMetrics.recordParse(
+                () -> notificationMessageParser.parse(messageBody)
+            );
+            notificationMessageHandler.handleNotificationMessage(notificationMsg, message.getJMSMessageID());
+            finaliseProcessedMessage(message, MessageProcessingResult.SUCCESS);
+        } catch (InvalidMessageException ex) {
+            log.error("Invalid notification message with ID: {} ", message.getJMSMessageID(), ex);
+            finaliseProcessedMessage(message, MessageProcessingResult.UNRECOVERABLE_FAILURE);
+        } catch (DuplicateMessageIdException ex) {
+            notificationMetrics.duplicateMessage();
+            handleDuplicateMessageId(message, ex.getMessage());
+        } catch (Exception ex) {
+            log.error("Failed to process notification message with ID: {} ", message.getJMSMessageID(), ex);
+            finaliseProcessedMessage(message, MessageProcessingResult.POTENTIALLY_RECOVERABLE_FAILURE);
+        } finally {
+            LoggingContext.clear();
+        }
+    }
+
     private void handleDuplicateMessageId(ActiveMQMessage messageContext, String errorMessage) throws JMSException {
         if (messageContext.getStringProperty("JMSXDeliveryCount").equals("0")) {
             log.error("Message dead-lettered...if this was ASB");
@@ -76,8 +99,12 @@ public class JmsNotificationMessageProcessor {
         MessageProcessingResult processingResult
     ) {
         try {
-            log.info("Finalising Notification Message with ID {} ", messageContext.getJMSMessageID());
             completeProcessedMessage(messageContext, processingResult);
+            // summary of the message, details are in MDC
+            log.info("Finished processing notification message with ID {}. Result: {}",
+                     messageContext.getJMSMessageID(),
+                     processingResult
+            );
         } catch (Exception ex) {
             log.error(
                 "Failed to finalise notification message with ID {}. Processing result: {}",
@@ -93,14 +120,7 @@ public class JmsNotificationMessageProcessor {
         MessageProcessingResult processingResult
     ) throws jakarta.jms.JMSException {
         switch (processingResult) {
-            case SUCCESS -> {
-                log.info("Completing Notification Message with ID {} ", messageContext.getJMSMessageID());
-                messageContext.acknowledge();
-                log.info(
-                    "Notification Message with ID {} has been completed successfully.",
-                    messageContext.getJMSMessageID()
-                );
-            }
+            case SUCCESS -> messageContext.acknowledge();
             case UNRECOVERABLE_FAILURE -> deadLetterTheMessage(
                 messageContext,
                 "Notification Message processing error",
@@ -138,6 +158,7 @@ public class JmsNotificationMessageProcessor {
         String reason,
         String description
     ) {
+        notificationMetrics.deadLettered(reason);
         log.error(
             "Notification Message with ID {} has been dead-lettered (if this was ASB). Reason: '{}'. Description: '{}'",
             messageContext.getJMSMessageID(),
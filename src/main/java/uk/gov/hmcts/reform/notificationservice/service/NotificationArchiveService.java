@@ -0,0 +1,92 @@
+package uk.gov.hmcts.reform.notificationservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationArchiveRepository;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationArchiveRepository.ArchivedBatch;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Service
+public class NotificationArchiveService {
+
+    private static final Logger log = getLogger(NotificationArchiveService.class);
+
+    private final NotificationArchiveRepository archiveRepository;
+    private final int retentionInDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long pauseBetweenBatchesInMs;
+    private final Counter archivedCounter;
+    private final Timer batchTimer;
+
+    public NotificationArchiveService(
+        NotificationArchiveRepository archiveRepository,
+        MeterRegistry meterRegistry,
+        @Value("${scheduling.task.notifications-archive.retention-in-days:90}") int retentionInDays,
+        @Value("${scheduling.task.notifications-archive.batch-size:1000}") int batchSize,
+        @Value("${scheduling.task.notifications-archive.max-batches-per-run:100}") int maxBatchesPerRun,
+        @Value("${scheduling.task.notifications-archive.pause-between-batches-in-ms:200}") long pauseBetweenBatchesInMs
+    ) {
+        this.archiveRepository = archiveRepository;
+        this.retentionInDays = retentionInDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pauseBetweenBatchesInMs = pauseBetweenBatchesInMs;
+        this.archivedCounter = Counter.builder("notifications.archived")
+            .description("Number of SENT and FAILED notifications moved to the archive table")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("notifications.archive.batch")
+            .description("Time taken to archive a single batch of notifications")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Moves SENT and FAILED notifications older than the retention period to the archive table.
+     * Work is split into small batches, each in its own short transaction, with a pause in between
+     * so the dispatcher and message consumers are not starved. A single run is capped at
+     * {@code max-batches-per-run} batches, the remainder is picked up by the next run.
+     * @return number of archived notifications
+     */
+    public int archiveNotifications() {
+        log.info("Archiving notifications created more than {} days ago", retentionInDays);
+
+        long lastId = 0;
+        int total = 0;
+        for (int batchNo = 1; batchNo <= maxBatchesPerRun; batchNo++) {
+            long afterId = lastId;
+            ArchivedBatch batch = batchTimer.record(
+                () -> archiveRepository.archiveBatch(retentionInDays, afterId, batchSize)
+            );
+
+            archivedCounter.increment(batch.count());
+            total += batch.count();
+            lastId = batch.lastId();
+
+            if (batch.count() < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        log.info("Archived {} notifications created more than {} days ago", total, retentionInDays);
+        return total;
+    }
+
+    private boolean pause() {
+        if (pauseBetweenBatchesInMs <= 0) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(pauseBetweenBatchesInMs);
+            return true;
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
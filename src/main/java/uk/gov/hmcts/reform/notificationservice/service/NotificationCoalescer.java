@@ -0,0 +1,112 @@
+package uk.gov.hmcts.reform.notificationservice.service;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.notificationservice.data.Notification;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationFingerprint;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Finds equivalent pending notifications, same envelope failing with the same error, created within a window.
+ * Only the oldest due one of them is sent to the supplier, the others share its outcome.
+ */
+@Component
+public class NotificationCoalescer {
+
+    private static final Logger log = getLogger(NotificationCoalescer.class);
+
+    private final NotificationRepository notificationRepository;
+    private final boolean enabled;
+    private final Duration window;
+
+    public NotificationCoalescer(
+        NotificationRepository notificationRepository,
+        @Value("${scheduling.task.pending-notifications.coalesce.enabled:false}") boolean enabled,
+        @Value("${scheduling.task.pending-notifications.coalesce.window:PT10M}") Duration window
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.enabled = enabled;
+        this.window = window;
+    }
+
+    /**
+     * Splits due notifications into the ones to send and their equivalents.
+     * @param notifications due notifications in dispatch order
+     * @return notifications to send, in the same order, with the equivalents of each
+     */
+    public Coalesced coalesce(List<Notification> notifications) {
+        if (!enabled || notifications.isEmpty()) {
+            return new Coalesced(notifications, Map.of());
+        }
+
+        // oldest due notification of each fingerprint is sent
+        Map<Long, Notification> leaders = new HashMap<>();
+        for (Notification notification : notifications) {
+            leaders.merge(
+                NotificationFingerprint.of(notification),
+                notification,
+                (leader, other) -> other.createdAt.isBefore(leader.createdAt) ? other : leader
+            );
+        }
+
+        Map<Long, List<Notification>> equivalents = new HashMap<>();
+        Set<Long> coalescedIds = new HashSet<>();
+        for (Notification pending : notificationRepository.findPendingByFingerprints(leaders.keySet())) {
+            Notification leader = leaders.get(NotificationFingerprint.of(pending));
+            if (leader != null && pending.id != leader.id && isEquivalent(leader, pending)) {
+                equivalents.computeIfAbsent(leader.id, id -> new ArrayList<>()).add(pending);
+                coalescedIds.add(pending.id);
+            }
+        }
+
+        if (coalescedIds.isEmpty()) {
+            return new Coalesced(notifications, Map.of());
+        }
+
+        List<Notification> toSend = new ArrayList<>(notifications.size() - coalescedIds.size());
+        for (Notification notification : notifications) {
+            if (!coalescedIds.contains(notification.id)) {
+                toSend.add(notification);
+            }
+        }
+        log.info("Coalesced {} pending notifications into {}", coalescedIds.size(), equivalents.size());
+        return new Coalesced(toSend, equivalents);
+    }
+
+    // fingerprint is a hash, fields are compared as well
+    private boolean isEquivalent(Notification leader, Notification other) {
+        return Objects.equals(leader.zipFileName, other.zipFileName)
+            && Objects.equals(leader.service, other.service)
+            && leader.errorCode == other.errorCode
+            && Objects.equals(leader.client, other.client)
+            && Duration.between(leader.createdAt, other.createdAt).abs().compareTo(window) <= 0;
+    }
+
+    public static class Coalesced {
+
+        public final List<Notification> toSend;
+        // keyed by ID of the notification that is sent
+        private final Map<Long, List<Notification>> equivalents;
+
+        Coalesced(List<Notification> toSend, Map<Long, List<Notification>> equivalents) {
+            this.toSend = toSend;
+            this.equivalents = equivalents;
+        }
+
+        public List<Notification> equivalentsOf(Notification notification) {
+            return equivalents.getOrDefault(notification.id, List.of());
+        }
+    }
+}
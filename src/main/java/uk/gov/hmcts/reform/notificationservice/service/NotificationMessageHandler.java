@@ -1,12 +1,18 @@
 package uk.gov.hmcts.reform.notificationservice.service;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.notificationservice.config.SecondaryClientJurisdictionsConfig;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationClients;
 import uk.gov.hmcts.reform.notificationservice.data.NotificationRepository;
+import uk.gov.hmcts.reform.notificationservice.metrics.NotificationMetrics;
 import uk.gov.hmcts.reform.notificationservice.model.in.NotificationMsg;
+import uk.gov.hmcts.reform.notificationservice.util.LoggingContext;
 
 import java.util.Arrays;
 import java.util.Locale;
@@ -20,30 +26,55 @@ public class NotificationMessageHandler {
     private final NotificationMessageMapper notificationMessageMapper;
     private final NotificationRepository notificationRepository;
     private final String[] secondaryClientJurisdictions;
+    private final NotificationMetrics notificationMetrics;
+    private final ObservationRegistry observationRegistry;
 
     @Autowired
     public NotificationMessageHandler(
         NotificationMessageMapper notificationMessageMapper,
         NotificationRepository notificationRepository,
-        SecondaryClientJurisdictionsConfig secondaryClientJurisdictions
+        SecondaryClientJurisdictionsConfig secondaryClientJurisdictions,
+        NotificationMetrics notificationMetrics,
+        ObservationRegistry observationRegistry
     ) {
         this.notificationMessageMapper = notificationMessageMapper;
         this.notificationRepository = notificationRepository;
         this.secondaryClientJurisdictions = secondaryClientJurisdictions.getJurisdictionList();
+        this.notificationMetrics = notificationMetrics;
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * Checks whether a notification has already been stored for the queue message.
+     */
+    public boolean isStored(String messageId) {
+        return notificationRepository.existsByMessageId(messageId);
     }
 
     public void handleNotificationMessage(NotificationMsg notificationMsg, String messageId) {
-        log.info("Handle notification message, Zip File: {}", notificationMsg.zipFileName);
+        MDC.put(LoggingContext.ZIP_FILE_NAME, notificationMsg.zipFileName);
+        MDC.put(LoggingContext.SERVICE, notificationMsg.service);
 
         // Cater for the possibility of the jurisdiction being not present. If it is, set it to primary
         String jurisdiction = Objects.requireNonNullElse(notificationMsg.jurisdiction, "").toLowerCase(Locale.ROOT);
-        String client = Arrays.asList(secondaryClientJurisdictions).contains(jurisdiction) ? "secondary" : "primary";
+        String client = Arrays.asList(secondaryClientJurisdictions).contains(jurisdiction)
+            ? NotificationClients.SECONDARY
+            : NotificationClients.PRIMARY;
+        MDC.put(LoggingContext.CLIENT, client);
 
         var newNotification = notificationMessageMapper
             .map(notificationMsg, messageId, client);
 
-        long id = notificationRepository.insert(newNotification);
-        log.info(
+        long id = notificationMetrics.recordInsert(() -> notificationRepository.insert(newNotification));
+        MDC.put(LoggingContext.NOTIFICATION_ID, String.valueOf(id));
+
+        // links the message processing span with the stored notification
+        Observation observation = observationRegistry.getCurrentObservation();
+        if (observation != null) {
+            observation.highCardinalityKeyValue("notification.id", String.valueOf(id));
+        }
+
+        log.debug(
             "Handle notification message successful: Zip File: {}, "
                 + "inserted Notification ID: {}, sent to client: {}, jurisdiction: {}",
             notificationMsg.zipFileName,
@@ -1,32 +1,169 @@
 package uk.gov.hmcts.reform.notificationservice.service;
 
 import com.azure.core.util.BinaryData;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.notificationservice.exception.InvalidMessageException;
+import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
 import uk.gov.hmcts.reform.notificationservice.model.in.NotificationMsg;
 
 import java.io.IOException;
 
 //TODO: FACT-2026 - whole class can go
+/**
+ * Parses notification messages with a streaming parser, validating the message in the same pass:
+ * required fields, field types, error code values and sizes. Fields stored in a VARCHAR column of the notifications
+ * table are limited to the column size, jurisdiction and error_description (a TEXT column) are only limited by
+ * the size of the whole message.
+ * Invalid messages fail on the first problem found, with {@link InvalidMessageException}.
+ * Unknown fields are ignored.
+ */
 @Service
 public class NotificationMessageParser {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationMessageParser.class);
 
-    private final ObjectMapper objectMapper;
+    static final int MAX_MESSAGE_SIZE = 64 * 1024;
+
+    private static final String ZIP_FILE_NAME = "zip_file_name";
+    private static final String JURISDICTION = "jurisdiction";
+    private static final String PO_BOX = "po_box";
+    private static final String CONTAINER = "container";
+    private static final String DOCUMENT_CONTROL_NUMBER = "document_control_number";
+    private static final String ERROR_CODE = "error_code";
+    private static final String ERROR_DESCRIPTION = "error_description";
+    private static final String SERVICE = "service";
+
+    private final JsonFactory jsonFactory;
 
     public NotificationMessageParser(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
     }
 
+    /**
+     * Parses Service Bus message body. The payload bytes are read as they are, without decoding them to a String.
+     */
     public NotificationMsg parse(BinaryData messageBody) {
+        byte[] bytes = messageBody.toBytes();
+        checkSize(bytes.length);
+        try (JsonParser parser = jsonFactory.createParser(bytes)) {
+            return logParsed(read(parser));
+        } catch (IOException exc) {
+            throw new InvalidMessageException(exc);
+        }
+    }
+
+    /**
+     * Parses JMS text message body.
+     */
+    public NotificationMsg parse(String messageBody) {
+        checkSize(messageBody.length());
+        try (JsonParser parser = jsonFactory.createParser(messageBody)) {
+            return logParsed(read(parser));
+        } catch (IOException exc) {
+            throw new InvalidMessageException(exc);
+        }
+    }
+
+    private NotificationMsg read(JsonParser parser) throws IOException {
+        parser.enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new InvalidMessageException("Notification message is not a JSON object");
+        }
+
+        String zipFileName = null;
+        String jurisdiction = null;
+        String poBox = null;
+        String container = null;
+        String documentControlNumber = null;
+        ErrorCode errorCode = null;
+        String errorDescription = null;
+        String service = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case ZIP_FILE_NAME -> zipFileName = readText(parser, field, 255);
+                case JURISDICTION -> jurisdiction = readText(parser, field);
+                case PO_BOX -> poBox = readText(parser, field, 50);
+                case CONTAINER -> container = readText(parser, field, 50);
+                case DOCUMENT_CONTROL_NUMBER -> documentControlNumber = readText(parser, field, 100);
+                case ERROR_CODE -> errorCode = readErrorCode(parser);
+                case ERROR_DESCRIPTION -> errorDescription = readText(parser, field);
+                case SERVICE -> service = readText(parser, field, 100);
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (parser.nextToken() != null) {
+            throw new InvalidMessageException("Unexpected content after notification message");
+        }
+
+        return new NotificationMsg(
+            required(zipFileName, ZIP_FILE_NAME),
+            jurisdiction,
+            poBox,
+            container,
+            documentControlNumber,
+            required(errorCode, ERROR_CODE),
+            required(errorDescription, ERROR_DESCRIPTION),
+            required(service, SERVICE)
+        );
+    }
+
+    private static String readText(JsonParser parser, String field) throws IOException {
+        return readText(parser, field, Integer.MAX_VALUE);
+    }
+
+    private static String readText(JsonParser parser, String field, int maxLength) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        } else if (token != JsonToken.VALUE_STRING) {
+            throw new InvalidMessageException("Field " + field + " must be a string");
+        } else if (parser.getTextLength() > maxLength) {
+            // checked before the value is turned into a String
+            throw new InvalidMessageException("Field " + field + " is longer than " + maxLength + " characters");
+        }
+        return parser.getText();
+    }
+
+    private static ErrorCode readErrorCode(JsonParser parser) throws IOException {
+        String value = readText(parser, ERROR_CODE, 50);
+        if (value == null) {
+            return null;
+        }
         try {
-            NotificationMsg notificationMsg =
-                objectMapper.readValue(messageBody.toString(), NotificationMsg.class);
-            logger.info(
+            return ErrorCode.valueOf(value);
+        } catch (IllegalArgumentException exc) {
+            throw new InvalidMessageException("Unknown " + ERROR_CODE + ": " + value);
+        }
+    }
+
+    private static <T> T required(T value, String field) {
+        if (value == null) {
+            throw new InvalidMessageException("Missing required field " + field);
+        }
+        return value;
+    }
+
+    private static void checkSize(int size) {
+        if (size > MAX_MESSAGE_SIZE) {
+            throw new InvalidMessageException(
+                "Notification message of " + size + " bytes exceeds the limit of " + MAX_MESSAGE_SIZE
+            );
+        }
+    }
+
+    private NotificationMsg logParsed(NotificationMsg notificationMsg) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(
                 "Parsed notification message, Zip File Name: {}, Error Code: {}, "
                     + "Jurisdiction: {}, PO Box: {}, Container {}, Service: {}, Document Control Number: {}",
                 notificationMsg.zipFileName,
@@ -37,11 +174,8 @@ public class NotificationMessageParser {
                 notificationMsg.service,
                 notificationMsg.documentControlNumber
             );
-
-            return notificationMsg;
-        } catch (IOException exc) {
-            throw new InvalidMessageException(exc);
         }
-    }
 
+        return notificationMsg;
+    }
 }
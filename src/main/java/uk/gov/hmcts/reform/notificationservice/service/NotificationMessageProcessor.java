@@ -1,15 +1,26 @@
 package uk.gov.hmcts.reform.notificationservice.service;
 
+import com.azure.messaging.servicebus.ServiceBusException;
+import com.azure.messaging.servicebus.ServiceBusFailureReason;
 import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
 import com.azure.messaging.servicebus.ServiceBusReceivedMessageContext;
 import com.azure.messaging.servicebus.models.DeadLetterOptions;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.notificationservice.exception.DuplicateMessageIdException;
 import uk.gov.hmcts.reform.notificationservice.exception.InvalidMessageException;
 import uk.gov.hmcts.reform.notificationservice.exception.UnknownMessageProcessingResultException;
+import uk.gov.hmcts.reform.notificationservice.metrics.NotificationMetrics;
+import uk.gov.hmcts.reform.notificationservice.util.LoggingContext;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
 
 //TODO: FACT-2026 - whole class can go
 @Service
@@ -20,15 +31,27 @@ public class NotificationMessageProcessor {
     private final NotificationMessageHandler notificationMessageHandler;
     private final NotificationMessageParser notificationMessageParser;
     private final int maxDeliveryCount;
+    private final NotificationMetrics notificationMetrics;
+    private final ObservationRegistry observationRegistry;
+    private final Duration maxAutoLockRenewDuration;
+
+    // messages being processed, lets the queue listener wait for them on shutdown
+    private final AtomicInteger inFlightMessages = new AtomicInteger();
 
     public NotificationMessageProcessor(
         NotificationMessageHandler notificationMessageHandler,
         NotificationMessageParser notificationMessageParser,
-        @Value("${queue.notifications.max-delivery-count}") int maxDeliveryCount
+        @Value("${queue.notifications.max-delivery-count}") int maxDeliveryCount,
+        NotificationMetrics notificationMetrics,
+        ObservationRegistry observationRegistry,
+        @Value("${queue.notifications.max-auto-lock-renew-duration:PT5M}") Duration maxAutoLockRenewDuration
     ) {
         this.notificationMessageHandler = notificationMessageHandler;
         this.notificationMessageParser = notificationMessageParser;
         this.maxDeliveryCount = maxDeliveryCount;
+        this.notificationMetrics = notificationMetrics;
+        this.observationRegistry = observationRegistry;
+        this.maxAutoLockRenewDuration = maxAutoLockRenewDuration;
     }
 
     /**
@@ -38,31 +61,70 @@ public class NotificationMessageProcessor {
     public void processNextMessage(ServiceBusReceivedMessageContext messageContext) {
         ServiceBusReceivedMessage message = messageContext.getMessage();
         if (message != null) {
+            inFlightMessages.incrementAndGet();
             try {
-                // DO NOT CHANGE, used in alert
-                log.info("Started processing notification message with ID {}", message.getMessageId());
-                log.info("Start processing notification message, ID {}, locked until {}, expires: {}",
-                         message.getMessageId(),
-                         message.getLockedUntil(),
-                         message.getExpiresAt()
-                );
-                var notificationMsg = notificationMessageParser.parse(message.getBody());
-                notificationMessageHandler.handleNotificationMessage(notificationMsg, message.getMessageId());
-                finaliseProcessedMessage(messageContext, MessageProcessingResult.SUCCESS);
-            } catch (InvalidMessageException ex) {
-                log.error("Invalid notification message with ID: {} ", message.getMessageId(), ex);
-                finaliseProcessedMessage(messageContext, MessageProcessingResult.UNRECOVERABLE_FAILURE);
-            } catch (DuplicateMessageIdException ex) {
-                handleDuplicateMessageId(messageContext, ex.getMessage());
-            } catch (Exception ex) {
-                log.error("Failed to process notification message with ID: {} ", message.getMessageId(), ex);
-                finaliseProcessedMessage(messageContext, MessageProcessingResult.POTENTIALLY_RECOVERABLE_FAILURE);
+                Observation.createNotStarted("notifications.message.process", observationRegistry)
+                    .contextualName("process notification message")
+                    .highCardinalityKeyValue("messaging.message.id", String.valueOf(message.getMessageId()))
+                    .observe(() -> processMessage(messageContext, message));
+            } finally {
+                inFlightMessages.decrementAndGet();
             }
         } else {
             log.error("Triggered notification queue process but there is no message !!!");
         }
     }
 
+    public int getInFlightMessages() {
+        return inFlightMessages.get();
+    }
+
+    private void processMessage(ServiceBusReceivedMessageContext messageContext, ServiceBusReceivedMessage message) {
+        MDC.put(LoggingContext.MESSAGE_ID, message.getMessageId());
+        try {
+            // DO NOT CHANGE, used in alert
+            log.info("Started processing notification message with ID {}", message.getMessageId());
+
+            if (isLockLost(message, null, NotificationMetrics.LOCK_LOST_BEFORE_PROCESSING)) {
+                return;
+            }
+            // lock was held when processing started, the processor keeps renewing it from now on
+            OffsetDateTime renewedUntil = maxAutoLockRenewDuration.isPositive()
+                ? OffsetDateTime.now().plus(maxAutoLockRenewDuration)
+                : null;
+            log.debug(
+                "Notification message lock remaining: {} ms, expires: {}",
+                remainingLock(message, renewedUntil).toMillis(),
+                message.getExpiresAt()
+            );
+            var notificationMsg = notificationMetrics.recordParse(
+                () -> notificationMessageParser.parse(message.getBody())
+            );
+            if (message.getDeliveryCount() > 0 && notificationMessageHandler.isStored(message.getMessageId())) {
+                // previous delivery was stored but could not be settled, e.g. its lock was lost
+                throw new DuplicateMessageIdException(
+                    "Notification already stored for redelivered message id - " + message.getMessageId()
+                );
+            }
+            if (isLockLost(message, renewedUntil, NotificationMetrics.LOCK_LOST_BEFORE_INSERT)) {
+                return;
+            }
+            notificationMessageHandler.handleNotificationMessage(notificationMsg, message.getMessageId());
+            finaliseProcessedMessage(messageContext, MessageProcessingResult.SUCCESS);
+        } catch (InvalidMessageException ex) {
+            log.error("Invalid notification message with ID: {} ", message.getMessageId(), ex);
+            finaliseProcessedMessage(messageContext, MessageProcessingResult.UNRECOVERABLE_FAILURE);
+        } catch (DuplicateMessageIdException ex) {
+            notificationMetrics.duplicateMessage();
+            handleDuplicateMessageId(messageContext, ex.getMessage());
+        } catch (Exception ex) {
+            log.error("Failed to process notification message with ID: {} ", message.getMessageId(), ex);
+            finaliseProcessedMessage(messageContext, MessageProcessingResult.POTENTIALLY_RECOVERABLE_FAILURE);
+        } finally {
+            LoggingContext.clear();
+        }
+    }
+
     private void handleDuplicateMessageId(ServiceBusReceivedMessageContext messageContext, String errorMessage) {
         var message = messageContext.getMessage();
         if (message.getDeliveryCount() == 0) {
@@ -87,28 +149,87 @@ public class NotificationMessageProcessor {
     ) {
         var message = messageContext.getMessage();
         try {
-            log.info("Finalising Notification Message with ID {} ", message.getMessageId());
             completeProcessedMessage(messageContext, processingResult);
-        } catch (Exception ex) {
-            log.error(
-                "Failed to finalise notification message with ID {}. Processing result: {}",
-                message.getMessageId(),
-                processingResult,
-                ex
+            // summary of the message, details are in MDC
+            log.info("Finished processing notification message with ID {}. Result: {}",
+                     message.getMessageId(),
+                     processingResult
             );
+        } catch (ServiceBusException ex) {
+            if (ex.getReason() == ServiceBusFailureReason.MESSAGE_LOCK_LOST) {
+                // lock expired while processing, the redelivered message is found stored and completed
+                notificationMetrics.lockLost(NotificationMetrics.LOCK_LOST_ON_SETTLEMENT);
+                log.warn(
+                    "Lock of notification message with ID {} lost before it was settled. Processing result: {}",
+                    message.getMessageId(),
+                    processingResult
+                );
+            } else {
+                logFinaliseFailure(message, processingResult, ex);
+            }
+        } catch (Exception ex) {
+            logFinaliseFailure(message, processingResult, ex);
+        }
+    }
+
+    private void logFinaliseFailure(
+        ServiceBusReceivedMessage message,
+        MessageProcessingResult processingResult,
+        Exception ex
+    ) {
+        log.error(
+            "Failed to finalise notification message with ID {}. Processing result: {}",
+            message.getMessageId(),
+            processingResult,
+            ex
+        );
+    }
+
+    /**
+     * Checks the message lock has not expired. An expired message is already available to other receivers,
+     * processing it here would duplicate it, so it is left for redelivery.
+     * @param renewedUntil time until which the processor renews the lock, null before processing started
+     */
+    private boolean isLockLost(ServiceBusReceivedMessage message, OffsetDateTime renewedUntil, String stage) {
+        Duration remainingLock = remainingLock(message, renewedUntil);
+        if (!remainingLock.isNegative()) {
+            return false;
+        }
+        notificationMetrics.lockLost(stage);
+        log.warn(
+            "Lock of notification message with ID {} expired {} ms ago ({}). Leaving it for redelivery",
+            message.getMessageId(),
+            remainingLock.negated().toMillis(),
+            stage
+        );
+        return true;
+    }
+
+    /**
+     * Time left until the message lock expires.
+     * The processor client renews the lock in the background for up to queue.notifications
+     * .max-auto-lock-renew-duration, without reporting renewals back here, so lockedUntil of the received message
+     * is not relied on to follow them. The lock counts as held until the later of lockedUntil and the end of
+     * the renewal period. A renewal which failed shows up as lock lost when the message is settled.
+     */
+    private static Duration remainingLock(ServiceBusReceivedMessage message, OffsetDateTime renewedUntil) {
+        OffsetDateTime lockedUntil = message.getLockedUntil();
+        if (lockedUntil == null) {
+            return Duration.ZERO;
         }
+        if (renewedUntil != null && renewedUntil.isAfter(lockedUntil)) {
+            lockedUntil = renewedUntil;
+        }
+        return Duration.between(OffsetDateTime.now(), lockedUntil);
     }
 
     private void completeProcessedMessage(
         ServiceBusReceivedMessageContext messageContext,
         MessageProcessingResult processingResult
     ) {
-        var message = messageContext.getMessage();
         switch (processingResult) {
             case SUCCESS:
-                log.info("Completing Notification Message with ID {} ", message.getMessageId());
                 messageContext.complete();
-                log.info("Notification Message with ID {} has been completed successfully.", message.getMessageId());
                 break;
             case UNRECOVERABLE_FAILURE:
                 deadLetterTheMessage(
@@ -154,6 +275,7 @@ public class NotificationMessageProcessor {
     ) {
         messageContext
             .deadLetter(new DeadLetterOptions().setDeadLetterReason(reason).setDeadLetterErrorDescription(description));
+        notificationMetrics.deadLettered(reason);
 
         log.error(
             "Notification Message with ID {} has been dead-lettered. Reason: '{}'. Description: '{}'",
@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.notificationservice.service;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationPartitionRepository;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Service
+public class NotificationPartitionService {
+
+    private static final Logger log = getLogger(NotificationPartitionService.class);
+
+    private final NotificationPartitionRepository partitionRepository;
+    private final int monthsAhead;
+    private final int detachAfterMonths;
+
+    public NotificationPartitionService(
+        NotificationPartitionRepository partitionRepository,
+        @Value("${scheduling.task.partition-maintenance.months-ahead:3}") int monthsAhead,
+        @Value("${scheduling.task.partition-maintenance.detach-after-months:0}") int detachAfterMonths
+    ) {
+        this.partitionRepository = partitionRepository;
+        this.monthsAhead = monthsAhead;
+        this.detachAfterMonths = detachAfterMonths;
+    }
+
+    /**
+     * Creates monthly partitions of the notifications table for the current month and the configured
+     * number of months ahead. When {@code detach-after-months} is positive, partitions older than that
+     * are detached from the notifications table (the detached tables are left in place).
+     */
+    public void maintainPartitions(Clock clock) {
+        YearMonth currentMonth = YearMonth.now(clock);
+
+        for (int i = 0; i <= monthsAhead; i++) {
+            partitionRepository.createPartition(currentMonth.plusMonths(i));
+        }
+
+        if (detachAfterMonths > 0) {
+            YearMonth oldestKept = currentMonth.minusMonths(detachAfterMonths);
+            List<YearMonth> partitions = partitionRepository.findAttachedPartitions();
+
+            partitions
+                .stream()
+                .filter(month -> month.isBefore(oldestKept))
+                .forEach(month -> {
+                    partitionRepository.detachPartition(month);
+                    log.info("Detached notifications partition for {}", month);
+                });
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package uk.gov.hmcts.reform.notificationservice.service;
 
+import com.google.common.util.concurrent.RateLimiter;
 import feign.FeignException;
 import feign.FeignException.BadRequest;
+import feign.FeignException.MethodNotAllowed;
+import feign.FeignException.NotFound;
+import feign.RetryableException;
+import feign.FeignException.ServiceUnavailable;
+import feign.FeignException.TooManyRequests;
 import feign.FeignException.UnprocessableEntity;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.reform.notificationservice.clients.ErrorNotificationClient;
@@ -13,26 +24,57 @@ import uk.gov.hmcts.reform.notificationservice.clients.ErrorNotificationResponse
 import uk.gov.hmcts.reform.notificationservice.config.SecondaryClientJurisdictionsConfig;
 import uk.gov.hmcts.reform.notificationservice.data.NewNotification;
 import uk.gov.hmcts.reform.notificationservice.data.Notification;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationClients;
 import uk.gov.hmcts.reform.notificationservice.data.NotificationRepository;
 import uk.gov.hmcts.reform.notificationservice.exception.FailedDependencyException;
 import uk.gov.hmcts.reform.notificationservice.exception.NotFoundException;
+import uk.gov.hmcts.reform.notificationservice.metrics.NotificationMetrics;
+import uk.gov.hmcts.reform.notificationservice.model.in.NotificationSearchRequest;
+import uk.gov.hmcts.reform.notificationservice.model.in.NotifyBatchItem;
+import uk.gov.hmcts.reform.notificationservice.model.in.NotifyBatchRequest;
 import uk.gov.hmcts.reform.notificationservice.model.in.NotifyRequest;
 import uk.gov.hmcts.reform.notificationservice.model.out.NotificationInfo;
+import uk.gov.hmcts.reform.notificationservice.model.out.NotificationSearchResponse;
+import uk.gov.hmcts.reform.notificationservice.model.out.NotifyBatchItemInfo;
+import uk.gov.hmcts.reform.notificationservice.model.out.NotifyBatchResponse;
+import uk.gov.hmcts.reform.notificationservice.util.LoggingContext;
 import uk.gov.hmcts.reform.notificationservice.util.NotificationConverter;
 
+import java.net.ConnectException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.slf4j.LoggerFactory.getLogger;
+import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.PENDING;
 
 @Service
 public class NotificationService {
 
     private static final Logger log = getLogger(NotificationService.class);
 
+    // per notification logs of the dispatcher above this rate are logged at debug level only
+    private static final double ITEM_LOGS_PER_SECOND = 5;
+
+    // message IDs of notifications submitted in batches, followed by service and idempotency key
+    private static final String BATCH_MESSAGE_ID_PREFIX = "batch:";
+
+    private final RateLimiter itemLogLimiter = RateLimiter.create(ITEM_LOGS_PER_SECOND);
+
     private final NotificationRepository notificationRepository;
 
     private final ErrorNotificationClient notificationClient;
@@ -40,63 +82,417 @@ public class NotificationService {
 
     private final String[] secondaryClientJurisdictions;
 
+    private final NotificationMetrics notificationMetrics;
+
+    private final ObservationRegistry observationRegistry;
+
+    private final SupplierRateLimiter rateLimiter;
+
+    private final DispatchLanes dispatchLanes;
+
+    private final NotificationCoalescer coalescer;
+
+    private final boolean batchEnabled;
+
+    private final int maxBatchSize;
+
+    private final Duration batchUnsupportedRetryAfter;
+
+    private final Duration runBudget;
+
+    // clients whose batch endpoint was missing, sent one by one until the given time
+    private final Map<String, Instant> batchUnsupportedUntil = new ConcurrentHashMap<>();
+
     public NotificationService(
             NotificationRepository notificationRepository,
             ErrorNotificationClient notificationClient,
             ErrorNotificationClientSecondary notificationClientSecondary,
-            SecondaryClientJurisdictionsConfig secondaryClientJurisdictions
+            SecondaryClientJurisdictionsConfig secondaryClientJurisdictions,
+            NotificationMetrics notificationMetrics,
+            ObservationRegistry observationRegistry,
+            SupplierRateLimiter rateLimiter,
+            DispatchLanes dispatchLanes,
+            NotificationCoalescer coalescer,
+            @Value("${clients.error-notifications.batch.enabled:false}") boolean batchEnabled,
+            @Value("${clients.error-notifications.batch.max-size:50}") int maxBatchSize,
+            @Value("${clients.error-notifications.batch.unsupported-retry-after:PT1H}")
+            Duration batchUnsupportedRetryAfter,
+            @Value("${scheduling.task.pending-notifications.run-budget:PT5M}") Duration runBudget
     ) {
         this.notificationRepository = notificationRepository;
         this.notificationClient = notificationClient;
         this.notificationClientSecondary = notificationClientSecondary;
         this.secondaryClientJurisdictions = secondaryClientJurisdictions.getJurisdictionList();;
+        this.notificationMetrics = notificationMetrics;
+        this.observationRegistry = observationRegistry;
+        this.rateLimiter = rateLimiter;
+        this.dispatchLanes = dispatchLanes;
+        this.coalescer = coalescer;
+        this.batchEnabled = batchEnabled;
+        this.maxBatchSize = maxBatchSize;
+        this.batchUnsupportedRetryAfter = batchUnsupportedRetryAfter;
+        this.runBudget = runBudget;
     }
 
-    public void processPendingNotifications() { //TODO: FACT-2026
-        List<Notification> notifications = notificationRepository.findPending();
+    /**
+     * Sends pending notifications to the supplier, at the rate the supplier accepts for each client.
+     * Notifications of a client the supplier asked to retry later are deferred until then.
+     * A run stops taking permits once its time budget is spent, the task holds the scheduler lock meanwhile
+     * and the remaining notifications are left for the next run.
+     * Services and clients take turns, see {@link DispatchLanes}. Equivalent notifications are sent once,
+     * see {@link NotificationCoalescer}.
+     */
+    public void processPendingNotifications(Clock clock) { //TODO: FACT-2026
+        NotificationCoalescer.Coalesced coalesced = coalescer.coalesce(
+            dispatchLanes.order(notificationRepository.findPending(dispatchLanes.getMaxPerLane()))
+        );
+        List<Notification> notifications = coalesced.toSend;
 
         log.info("Number of notifications to process: {}", notifications.size());
 
-        var okCount = 0;
-        var failedCount = 0;
-        var postponedCount = 0;
+        var run = new DispatchRun(clock, clock.instant().plus(runBudget), coalesced);
+        if (batchEnabled) {
+            for (List<Notification> batch : toBatches(notifications)) {
+                sendBatch(batch, run);
+            }
+        } else {
+            for (var notification : notifications) {
+                send(notification, run);
+            }
+        }
+
+        log.info(
+            "Finished sending notifications. OK: {}, Failed: {}, Postponed: {}, Deferred: {}, Coalesced: {}, "
+                + "Unconfirmed: {}, Left for next run: {}",
+            run.ok,
+            run.failed,
+            run.postponed,
+            run.deferred,
+            run.coalescedCount,
+            run.unconfirmed,
+            run.left
+        );
+    }
+
+    private void send(Notification notification, DispatchRun run) {
+        MDC.put(LoggingContext.NOTIFICATION_ID, String.valueOf(notification.id));
+        MDC.put(LoggingContext.CLIENT, notification.client);
+
+        try {
+            if (!awaitPermit(notification.client, List.of(notification), run)) {
+                return;
+            }
+
+            log.debug("Sending error notification: {}", notification);
+            ErrorNotificationResponse response = notifySupplier(notification);
+            rateLimiter.accepted(notification.client, run.clock);
+
+            markAsSent(notification, response.getNotificationId(), run);
+
+        } catch (BadRequest | UnprocessableEntity exception) {
+            fail(notification, exception);
+            notificationMetrics.dispatched(notification.client, NotificationMetrics.OUTCOME_FAILED);
+            run.failed++;
+
+            // equivalent notifications fail for the same reason as the one sent
+            for (Notification equivalent : run.coalesced.equivalentsOf(notification)) {
+                fail(equivalent, exception);
+                notificationMetrics.dispatched(equivalent.client, NotificationMetrics.OUTCOME_FAILED);
+                run.failed++;
+            }
 
-        for (var notification : notifications) {
+        } catch (FeignException exception) {
+            if (isThrottled(exception)) {
+                throttled(notification.client, exception, List.of(notification), run);
+                return;
+            }
+            postpone(notification, exception);
+            notificationMetrics.dispatched(notification.client, NotificationMetrics.OUTCOME_POSTPONED);
+            run.postponed++;
+        } catch (Exception e) {
+            postpone(notification, e);
+            notificationMetrics.dispatched(notification.client, NotificationMetrics.OUTCOME_POSTPONED);
+            run.postponed++;
+        } finally {
+            LoggingContext.clear();
+        }
+    }
+
+    /**
+     * Sends notifications of a single client in one request.
+     * When the supplier rejects the request as a whole, e.g. because one of the notifications is invalid or
+     * the batch endpoint is not available, notifications are sent one by one so each gets its own outcome.
+     * A missing batch endpoint is remembered for a while, so the client is not asked for it on every run.
+     * When the supplier may have accepted the batch without confirming every notification (responses missing,
+     * server error, read timeout), the notifications are marked as unconfirmed rather than sent again.
+     */
+    private void sendBatch(List<Notification> batch, DispatchRun run) {
+        String client = batch.get(0).client;
+        if (batch.size() == 1 || isBatchUnsupported(client, run.clock)) {
+            batch.forEach(notification -> send(notification, run));
+            return;
+        }
+
+        if (!awaitPermit(client, batch, run)) {
+            return;
+        }
 
+        List<ErrorNotificationResponse> responses;
+        try {
+            responses = notifySupplier(client, batch);
+            rateLimiter.accepted(client, run.clock);
+        } catch (BadRequest | UnprocessableEntity | NotFound | MethodNotAllowed exception) {
+            log.warn(
+                "Supplier rejected batch of {} notifications with http status {}. Sending them one by one",
+                batch.size(),
+                exception.status()
+            );
+            if (exception instanceof NotFound || exception instanceof MethodNotAllowed) {
+                batchUnsupportedUntil.put(client, run.clock.instant().plus(batchUnsupportedRetryAfter));
+            }
+            batch.forEach(notification -> send(notification, run));
+            return;
+        } catch (FeignException exception) {
+            if (isThrottled(exception)) {
+                throttled(client, exception, batch, run);
+            } else if (isNotDelivered(exception)) {
+                postponeBatch(batch, exception, run);
+            } else {
+                unconfirmedBatch(batch, exception, run);
+            }
+            return;
+        } catch (Exception exception) {
+            unconfirmedBatch(batch, exception, run);
+            return;
+        }
+
+        if (responses == null || responses.size() != batch.size()) {
+            unconfirmedBatch(
+                batch,
+                new IllegalStateException(
+                    "Supplier returned " + (responses == null ? 0 : responses.size())
+                        + " responses for batch of " + batch.size() + " notifications"
+                ),
+                run
+            );
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Notification notification = batch.get(i);
+            MDC.put(LoggingContext.NOTIFICATION_ID, String.valueOf(notification.id));
+            MDC.put(LoggingContext.CLIENT, notification.client);
             try {
-                log.info("Sending error notification: {}", notification);
-                ErrorNotificationResponse response = notification.client.equals("primary")
-                    ? notificationClient.notify(mapToRequest(notification))
-                    : notificationClientSecondary.notify(mapToRequest(notification));
-
-                notificationRepository.markAsSent(notification.id, response.getNotificationId());
-
-                log.info(
-                    "Error notification sent. {}. Notification ID: {}",
-                    notification,
-                    response.getNotificationId()
-                );
-                okCount++;
-
-            } catch (BadRequest | UnprocessableEntity exception) {
-                fail(notification, exception);
-                failedCount++;
-
-            } catch (FeignException exception) {
-                postpone(notification, exception);
-                postponedCount++;
-            } catch (Exception e) {
-                postpone(notification, e);
-                postponedCount++;
+                markAsSent(notification, responses.get(i).getNotificationId(), run);
+            } finally {
+                LoggingContext.clear();
             }
         }
+    }
 
-        log.info(
-            "Finished sending notifications. OK: {}, Failed: {}, Postponed: {}",
-            okCount,
-            failedCount,
-            postponedCount
+    private boolean isBatchUnsupported(String client, Clock clock) {
+        Instant until = batchUnsupportedUntil.get(client);
+        if (until == null) {
+            return false;
+        }
+        if (until.isAfter(clock.instant())) {
+            return true;
+        }
+        batchUnsupportedUntil.remove(client, until);
+        return false;
+    }
+
+    /**
+     * Supplier can't have received the request: it was unavailable or the connection was never established.
+     */
+    private static boolean isNotDelivered(FeignException exception) {
+        return exception instanceof ServiceUnavailable
+            || (exception instanceof RetryableException && exception.getCause() instanceof ConnectException);
+    }
+
+    /**
+     * Marks notifications of a batch the supplier may have accepted as unconfirmed, sending them again
+     * could notify the supplier twice. They need to be reconciled with the supplier manually.
+     */
+    private void unconfirmedBatch(List<Notification> batch, Exception exception, DispatchRun run) {
+        log.error(
+            "Outcome of batch of {} notifications is not known, marking them as unconfirmed. "
+                + "Client: {}, notification IDs: {}",
+            batch.size(),
+            batch.get(0).client,
+            batch.stream().map(notification -> notification.id).toList(),
+            exception
         );
+        for (Notification notification : batch) {
+            notificationRepository.markAsUnconfirmed(notification.id, notification.createdAt);
+            notificationMetrics.dispatched(notification.client, NotificationMetrics.OUTCOME_UNCONFIRMED);
+            run.unconfirmed++;
+
+            for (Notification equivalent : run.coalesced.equivalentsOf(notification)) {
+                notificationRepository.markAsUnconfirmed(equivalent.id, equivalent.createdAt);
+                notificationMetrics.dispatched(equivalent.client, NotificationMetrics.OUTCOME_UNCONFIRMED);
+                run.unconfirmed++;
+            }
+        }
+    }
+
+    private void postponeBatch(List<Notification> batch, Exception exception, DispatchRun run) {
+        for (Notification notification : batch) {
+            MDC.put(LoggingContext.NOTIFICATION_ID, String.valueOf(notification.id));
+            MDC.put(LoggingContext.CLIENT, notification.client);
+            try {
+                if (exception instanceof FeignException feignException) {
+                    postpone(notification, feignException);
+                } else {
+                    postpone(notification, exception);
+                }
+                notificationMetrics.dispatched(notification.client, NotificationMetrics.OUTCOME_POSTPONED);
+                run.postponed++;
+            } finally {
+                LoggingContext.clear();
+            }
+        }
+    }
+
+    /**
+     * Waits until the rate limiter of the client lets the next call through, within the time budget of the run.
+     * @return false when the client is paused, the budget of the run is spent or the wait was interrupted,
+     *     notifications are left for later
+     */
+    private boolean awaitPermit(String client, List<Notification> notifications, DispatchRun run) {
+        Duration budgetLeft = Duration.between(run.clock.instant(), run.deadline);
+        if (budgetLeft.isNegative() || budgetLeft.isZero()) {
+            run.left += notifications.size();
+            return false;
+        }
+
+        Duration wait = rateLimiter.reserve(client, budgetLeft, run.clock);
+        if (wait == null) {
+            defer(notifications, rateLimiter.pausedUntil(client, run.clock), run);
+            return false;
+        }
+        if (wait.isZero()) {
+            return true;
+        }
+        if (wait.compareTo(budgetLeft) > 0) {
+            // permit was not taken, the notifications are picked up by the next run
+            run.left += notifications.size();
+            return false;
+        }
+
+        try {
+            Thread.sleep(wait.toMillis());
+            return true;
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            postponeBatch(notifications, exc, run);
+            return false;
+        }
+    }
+
+    private void throttled(
+        String client,
+        FeignException exception,
+        List<Notification> notifications,
+        DispatchRun run
+    ) {
+        Instant retryAfter = rateLimiter.throttled(client, retryAfter(exception, run.clock), run.clock);
+        defer(notifications, retryAfter, run);
+    }
+
+    /**
+     * Leaves notifications pending and records when they can be sent again, the supplier asked to retry later.
+     */
+    private void defer(List<Notification> notifications, Instant retryAfter, DispatchRun run) {
+        for (Notification notification : notifications) {
+            if (retryAfter != null) {
+                notificationRepository.deferUntil(notification.id, notification.createdAt, retryAfter);
+            }
+            log.debug("Deferring notification until {}. {}", retryAfter, notification);
+            notificationMetrics.dispatched(notification.client, NotificationMetrics.OUTCOME_DEFERRED);
+            run.deferred++;
+        }
+    }
+
+    private static boolean isThrottled(FeignException exception) {
+        return exception instanceof TooManyRequests
+            || (exception instanceof ServiceUnavailable && firstHeader(exception, HttpHeaders.RETRY_AFTER) != null);
+    }
+
+    /**
+     * Reads Retry-After header, either delay in seconds or HTTP date.
+     * @return null when the header is missing or invalid
+     */
+    private static Duration retryAfter(FeignException exception, Clock clock) {
+        String value = firstHeader(exception, HttpHeaders.RETRY_AFTER);
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException exc) {
+            try {
+                Instant date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                Duration delay = Duration.between(clock.instant(), date);
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException dateExc) {
+                log.warn("Invalid {} header value: {}", HttpHeaders.RETRY_AFTER, value);
+                return null;
+            }
+        }
+    }
+
+    private static String firstHeader(FeignException exception, String name) {
+        Map<String, Collection<String>> headers = exception.responseHeaders();
+        if (headers == null) {
+            return null;
+        }
+        // feign keeps headers in case insensitive map
+        Collection<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+
+    private void markAsSent(Notification notification, String confirmationId, DispatchRun run) {
+        notificationRepository.markAsSent(notification.id, notification.createdAt, confirmationId);
+
+        if (itemLogLimiter.tryAcquire()) {
+            log.info(
+                "Error notification sent. {}. Notification ID: {}",
+                notification,
+                confirmationId
+            );
+        }
+        notificationMetrics.dispatched(notification.client, NotificationMetrics.OUTCOME_SENT);
+        run.ok++;
+
+        // equivalent notifications are linked to the same supplier notification
+        for (Notification equivalent : run.coalesced.equivalentsOf(notification)) {
+            notificationRepository.markAsSent(equivalent.id, equivalent.createdAt, confirmationId);
+            notificationMetrics.dispatched(equivalent.client, NotificationMetrics.OUTCOME_COALESCED);
+            run.coalescedCount++;
+        }
+    }
+
+    /**
+     * Splits pending notifications into batches of a single client and priority, at most maxBatchSize each.
+     * Notifications keep the order they were read in.
+     */
+    private List<List<Notification>> toBatches(List<Notification> notifications) {
+        Map<String, List<Notification>> byClient = new LinkedHashMap<>();
+        for (Notification notification : notifications) {
+            byClient.computeIfAbsent(notification.client + "/" + notification.priority, key -> new ArrayList<>())
+                .add(notification);
+        }
+
+        List<List<Notification>> batches = new ArrayList<>();
+        for (List<Notification> clientNotifications : byClient.values()) {
+            int size = clientNotifications.size();
+            for (int from = 0; from < size; from += maxBatchSize) {
+                batches.add(clientNotifications.subList(from, Math.min(from + maxBatchSize, size)));
+            }
+        }
+        return batches;
     }
 
     public List<Notification> getAllPendingNotifications() { //TODO: FACT-2026
@@ -119,6 +515,33 @@ public class NotificationService {
         return notificationRepository.findByZipFileName(zipFileName);
     }
 
+    /**
+     * Finds notifications of the service matching any of the zip file names, DCNs or IDs in the request,
+     * using a single query. Missing lists are treated as empty.
+     * @param searchRequest values to look for
+     * @param service service the notifications belong to
+     * @return notifications found grouped by zip file name
+     */
+    @Transactional(readOnly = true)
+    public NotificationSearchResponse search(NotificationSearchRequest searchRequest, String service) {
+        Map<String, List<NotificationInfo>> zipFiles = new LinkedHashMap<>();
+        int[] count = {0};
+        notificationRepository.search(
+            service,
+            Objects.requireNonNullElse(searchRequest.zipFileNames, List.of()),
+            Objects.requireNonNullElse(searchRequest.documentControlNumbers, List.of()),
+            Objects.requireNonNullElse(searchRequest.notificationIds, List.of()),
+            notification -> {
+                // rows come ordered by zip file name, so every group is built in one go
+                zipFiles.computeIfAbsent(notification.zipFileName, zipFileName -> new ArrayList<>())
+                    .add(NotificationConverter.toNotificationResponse(notification));
+                count[0]++;
+            }
+        );
+        log.debug("Notification search found {} notifications in {} zip files", count[0], zipFiles.size());
+        return new NotificationSearchResponse(count[0], zipFiles);
+    }
+
     /**
      * Finds a notification by its notification ID.
      * The notification entity is piped to a converter to map it into a class that represents
@@ -147,38 +570,141 @@ public class NotificationService {
      */
     @Transactional
     public NotificationInfo saveNotificationMsg(NotifyRequest notifyRequest) {
-        String jurisdiction = Objects.requireNonNullElse(notifyRequest.jurisdiction, "").toLowerCase(Locale.ROOT);
-        String client = Arrays.asList(secondaryClientJurisdictions).contains(jurisdiction) ? "secondary" : "primary";
+        String client = clientFor(notifyRequest.jurisdiction);
         //Save notification as Created
         NewNotification newNotificationForDb = NotificationConverter.toNewNotification(notifyRequest, client);
         Notification notificationFromDb = notificationRepository.save(newNotificationForDb);
-        log.info("New request has been received to notify an external supplier. Notification ID: "
-                     + notificationFromDb.id);
+        log.info("New request has been received to notify an external supplier. Notification ID: {}",
+                 notificationFromDb.id);
         try {
-            ErrorNotificationResponse response = newNotificationForDb.client.equals("primary")
-                ? notificationClient.notify(mapToRequest(notificationFromDb))
-                : notificationClientSecondary.notify(mapToRequest(notificationFromDb));
-            log.info(String.format("New request has been received to notify an external supplier. Notification ID: %s. "
-                                       + "Supplier ID: %s", notificationFromDb.id, notificationFromDb.confirmationId));
+            ErrorNotificationResponse response = notifySupplier(notificationFromDb);
+            log.info("Supplier notified. Notification ID: {}. Supplier ID: {}",
+                     notificationFromDb.id,
+                     response.getNotificationId());
             //Update notification as Sent if Exela ok
             return NotificationConverter.toNotificationResponse(
                 notificationRepository.updateNotificationStatusAsSent(
-                    notificationFromDb.id, response.getNotificationId()));
+                    notificationFromDb.id, notificationFromDb.createdAt, response.getNotificationId()));
         } catch (FeignException exception) {
-            log.error("Error occurred trying to notify supplier. "
-                          + "Updating notification status to fail. Notification ID: " + notificationFromDb.id);
+            log.error("Error occurred trying to notify supplier. Updating notification status to fail. "
+                          + "Notification ID: {}", notificationFromDb.id);
             throw new FailedDependencyException(NotificationConverter
                                                     .toNotificationResponse(
                                                         notificationRepository.updateNotificationStatusAsFail(
-                                                            notificationFromDb.id)), exception);
+                                                            notificationFromDb.id,
+                                                            notificationFromDb.createdAt)), exception);
         }  catch (Exception e) {
-            log.error("An unexpected error occurred trying to notify supplier. "
-                          + "Updating notification status to fail. Notification ID: " + notificationFromDb.id);
-            notificationRepository.updateNotificationStatusAsFail(notificationFromDb.id);
+            log.error("An unexpected error occurred trying to notify supplier. Updating notification status to fail. "
+                          + "Notification ID: {}", notificationFromDb.id);
+            notificationRepository.updateNotificationStatusAsFail(notificationFromDb.id, notificationFromDb.createdAt);
             throw e;
         }
     }
 
+    /**
+     * Saves a batch of notification requests as PENDING, the pending notifications task notifies the supplier.
+     * They are due straight away, send delays only apply to notifications received from the queue.
+     * Idempotency keys are stored as message IDs, prefixed with the calling service. Items whose key has been
+     * saved before are not inserted again, the notification saved the first time is returned instead.
+     * All new items are inserted with a single statement.
+     * @param batchRequest notifications to save, idempotency keys must be unique within the batch
+     * @param service service submitting the batch
+     * @return ID and status of every item, in the order of the request
+     */
+    @Transactional
+    public NotifyBatchResponse saveNotificationBatch(NotifyBatchRequest batchRequest, String service) {
+        notificationRepository.lockBatchSubmission(service);
+
+        List<NotifyBatchItem> items = batchRequest.notifications;
+        List<String> messageIds = new ArrayList<>(items.size());
+        for (NotifyBatchItem item : items) {
+            messageIds.add(BATCH_MESSAGE_ID_PREFIX + service + ":" + item.idempotencyKey);
+        }
+
+        Map<String, Notification> existing = new HashMap<>();
+        for (Notification notification : notificationRepository.findByMessageIds(messageIds)) {
+            existing.putIfAbsent(notification.messageId, notification);
+        }
+
+        List<NewNotification> newNotifications = new ArrayList<>(items.size() - existing.size());
+        for (int i = 0; i < items.size(); i++) {
+            if (!existing.containsKey(messageIds.get(i))) {
+                NotifyRequest notifyRequest = items.get(i).notification;
+                newNotifications.add(NotificationConverter.toNewNotification(
+                    notifyRequest,
+                    clientFor(notifyRequest.jurisdiction),
+                    messageIds.get(i)
+                ));
+            }
+        }
+        Map<String, Long> insertedIds = newNotifications.isEmpty()
+            ? Map.of()
+            : notificationRepository.insertAll(newNotifications);
+
+        List<NotifyBatchItemInfo> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            String idempotencyKey = items.get(i).idempotencyKey;
+            Notification duplicate = existing.get(messageIds.get(i));
+            results.add(
+                duplicate == null
+                    ? new NotifyBatchItemInfo(idempotencyKey, insertedIds.get(messageIds.get(i)), PENDING, false)
+                    : new NotifyBatchItemInfo(idempotencyKey, duplicate.id, duplicate.status, true)
+            );
+        }
+
+        log.info(
+            "Notification batch saved. Service: {}, new notifications: {}, duplicates: {}",
+            service,
+            newNotifications.size(),
+            existing.size()
+        );
+        return new NotifyBatchResponse(results);
+    }
+
+    private String clientFor(String jurisdiction) {
+        String normalisedJurisdiction = Objects.requireNonNullElse(jurisdiction, "").toLowerCase(Locale.ROOT);
+        return Arrays.asList(secondaryClientJurisdictions).contains(normalisedJurisdiction)
+            ? NotificationClients.SECONDARY
+            : NotificationClients.PRIMARY;
+    }
+
+    /**
+     * Sends the notification to the supplier using the client it is assigned to.
+     * The call is traced with the notification ID, Feign propagates the trace context in the request headers.
+     */
+    private ErrorNotificationResponse notifySupplier(Notification notification) {
+        return Observation.createNotStarted("notifications.notify", observationRegistry)
+            .contextualName("notify supplier")
+            .lowCardinalityKeyValue("client", String.valueOf(notification.client))
+            .highCardinalityKeyValue("notification.id", String.valueOf(notification.id))
+            .observe(() -> notificationMetrics.recordSupplierCall(
+                notification.client,
+                () -> NotificationClients.PRIMARY.equals(notification.client)
+                    ? notificationClient.notify(mapToRequest(notification))
+                    : notificationClientSecondary.notify(mapToRequest(notification))
+            ));
+    }
+
+    /**
+     * Sends notifications of the client to the supplier in one request.
+     */
+    private List<ErrorNotificationResponse> notifySupplier(String client, List<Notification> batch) {
+        List<ErrorNotificationRequest> requests = new ArrayList<>(batch.size());
+        for (Notification notification : batch) {
+            requests.add(mapToRequest(notification));
+        }
+        return Observation.createNotStarted("notifications.notify", observationRegistry)
+            .contextualName("notify supplier batch")
+            .lowCardinalityKeyValue("client", String.valueOf(client))
+            .highCardinalityKeyValue("batch.size", String.valueOf(batch.size()))
+            .observe(() -> notificationMetrics.recordSupplierCall(
+                client,
+                () -> NotificationClients.PRIMARY.equals(client)
+                    ? notificationClient.notifyBatch(requests)
+                    : notificationClientSecondary.notifyBatch(requests)
+            ));
+    }
+
     private ErrorNotificationRequest mapToRequest(Notification notification) {
         return new ErrorNotificationRequest(
             notification.zipFileName,
@@ -198,10 +724,15 @@ public class NotificationService {
             exception
         );
 
-        notificationRepository.markAsFailure(notification.id);
+        notificationRepository.markAsFailure(notification.id, notification.createdAt);
     }
 
     private void postpone(Notification notification, FeignException exception) { //TODO: FACT-2026
+        // supplier outage postpones every pending notification, keep the noise down
+        if (!itemLogLimiter.tryAcquire()) {
+            log.debug("Postponing notification for later. {}. Http status: {}", notification, exception.status());
+            return;
+        }
         log.error(
             "Received http status {} from client. Postponing notification for later. {}. Client response: {}",
             exception.status(),
@@ -212,6 +743,29 @@ public class NotificationService {
     }
 
     private void postpone(Notification notification, Exception exc) { //TODO: FACT-2026
+        if (!itemLogLimiter.tryAcquire()) {
+            log.debug("Postponing notification for later. {}. Error: {}", notification, exc.getMessage());
+            return;
+        }
         log.error("Error processing pending notifications. {}", notification, exc);
     }
+
+    private static final class DispatchRun {
+        final Clock clock;
+        final Instant deadline;
+        final NotificationCoalescer.Coalesced coalesced;
+        int ok;
+        int failed;
+        int postponed;
+        int deferred;
+        int coalescedCount;
+        int unconfirmed;
+        int left;
+
+        DispatchRun(Clock clock, Instant deadline, NotificationCoalescer.Coalesced coalesced) {
+            this.clock = clock;
+            this.deadline = deadline;
+            this.coalesced = coalesced;
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.notificationservice.service;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationSummaryRepository;
+import uk.gov.hmcts.reform.notificationservice.model.out.NotificationSummaryInfo;
+import uk.gov.hmcts.reform.notificationservice.model.out.NotificationSummaryResponse;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Service
+public class NotificationSummaryService {
+
+    private static final Logger log = getLogger(NotificationSummaryService.class);
+
+    private final NotificationSummaryRepository summaryRepository;
+    private final int refreshDays;
+
+    public NotificationSummaryService(
+        NotificationSummaryRepository summaryRepository,
+        @Value("${scheduling.task.notification-summary.refresh-days:3}") int refreshDays
+    ) {
+        this.summaryRepository = summaryRepository;
+        this.refreshDays = refreshDays;
+    }
+
+    public NotificationSummaryResponse getSummary(LocalDate from, LocalDate to) {
+        return new NotificationSummaryResponse(
+            from,
+            to,
+            summaryRepository.find(from, to)
+                .stream()
+                .map(summary -> new NotificationSummaryInfo(
+                    summary.date,
+                    summary.service,
+                    summary.status.name(),
+                    summary.errorCode.name(),
+                    summary.client,
+                    summary.count
+                ))
+                .toList()
+        );
+    }
+
+    /**
+     * Recalculates the daily summary for the last {@code refresh-days} days (including today).
+     * Notifications change status mostly within a day or two of being created, older days are left as they are.
+     */
+    @Transactional
+    public void refreshSummary(Clock clock) {
+        LocalDate from = LocalDate.now(clock).minusDays(refreshDays - 1L);
+        int rows = summaryRepository.refresh(from);
+
+        log.info("Refreshed notification summary from {}. Summary rows: {}", from, rows);
+    }
+}
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.notificationservice.service;
+
+import org.slf4j.Logger;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationRepository;
+import uk.gov.hmcts.reform.notificationservice.data.PendingBacklog;
+import uk.gov.hmcts.reform.notificationservice.metrics.NotificationMetrics;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Keeps track of the pending notifications backlog. The backlog is measured periodically
+ * (see PendingBacklogMetricsTask) and cached, so metrics scrapes and health checks never query the database.
+ */
+@Service
+public class PendingBacklogService {
+
+    private static final Logger log = getLogger(PendingBacklogService.class);
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationMetrics notificationMetrics;
+
+    private volatile Measurement latest;
+
+    public PendingBacklogService(
+        NotificationRepository notificationRepository,
+        NotificationMetrics notificationMetrics
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.notificationMetrics = notificationMetrics;
+    }
+
+    public void refresh(Clock clock) {
+        List<PendingBacklog> backlog = notificationRepository.findPendingBacklog();
+        notificationMetrics.updatePendingBacklog(backlog);
+        notificationMetrics.updateLaneBacklog(notificationRepository.findPendingLaneBacklog());
+        latest = new Measurement(clock.instant(), backlog);
+
+        log.debug("Pending notifications backlog measured. Clients with pending notifications: {}", backlog.size());
+    }
+
+    /**
+     * Most recent backlog measurement, empty until the backlog is measured for the first time.
+     */
+    public Optional<Measurement> getLatest() {
+        return Optional.ofNullable(latest);
+    }
+
+    public static class Measurement {
+
+        public final Instant measuredAt;
+        // clients without pending notifications are not listed
+        public final List<PendingBacklog> backlog;
+
+        public Measurement(Instant measuredAt, List<PendingBacklog> backlog) {
+            this.measuredAt = measuredAt;
+            this.backlog = List.copyOf(backlog);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package uk.gov.hmcts.reform.notificationservice.service;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Token bucket per supplier client, shaping the rate at which the dispatcher calls the supplier API.
+ * The rate starts at the configured maximum, is halved every time the supplier throttles the client
+ * and grows back by a small step on every accepted call, so the dispatcher settles just under the rate
+ * the supplier accepts. Retry-After of a throttled call pauses the client until the given time.
+ */
+@Component
+public class SupplierRateLimiter {
+
+    private static final Logger log = getLogger(SupplierRateLimiter.class);
+
+    private final double maxPermitsPerSecond;
+    private final double minPermitsPerSecond;
+    private final double permitsPerSecondStep;
+    private final double burst;
+    private final Duration defaultRetryAfter;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public SupplierRateLimiter(
+        @Value("${clients.error-notifications.rate-limit.max-permits-per-second:20}") double maxPermitsPerSecond,
+        @Value("${clients.error-notifications.rate-limit.min-permits-per-second:0.5}") double minPermitsPerSecond,
+        @Value("${clients.error-notifications.rate-limit.permits-per-second-step:0.5}") double permitsPerSecondStep,
+        @Value("${clients.error-notifications.rate-limit.burst:10}") double burst,
+        @Value("${clients.error-notifications.rate-limit.default-retry-after:PT30S}") Duration defaultRetryAfter
+    ) {
+        this.maxPermitsPerSecond = maxPermitsPerSecond;
+        this.minPermitsPerSecond = Math.min(minPermitsPerSecond, maxPermitsPerSecond);
+        this.permitsPerSecondStep = permitsPerSecondStep;
+        this.burst = Math.max(1, burst);
+        this.defaultRetryAfter = defaultRetryAfter;
+    }
+
+    /**
+     * Takes a permit for a call to the supplier.
+     * @return time to wait before the call, zero when the permit is available straight away
+     *     or null when the client is paused by the supplier
+     */
+    public Duration reserve(String client, Clock clock) {
+        return bucket(client, clock).reserve(clock.millis(), Long.MAX_VALUE);
+    }
+
+    /**
+     * Takes a permit for a call to the supplier, unless it means waiting longer than maxWait.
+     * @return time to wait before the call, zero when the permit is available straight away
+     *     or null when the client is paused by the supplier. When the time is longer than maxWait
+     *     the permit is not taken
+     */
+    public Duration reserve(String client, Duration maxWait, Clock clock) {
+        return bucket(client, clock).reserve(clock.millis(), maxWait.toMillis());
+    }
+
+    /**
+     * Time until which the supplier asked not to call the client, null when the client is not paused.
+     */
+    public Instant pausedUntil(String client, Clock clock) {
+        long pausedUntil = bucket(client, clock).pausedUntil;
+        return pausedUntil > clock.millis() ? Instant.ofEpochMilli(pausedUntil) : null;
+    }
+
+    /**
+     * Supplier accepted the call, the rate is increased by a step.
+     */
+    public void accepted(String client, Clock clock) {
+        bucket(client, clock).increase();
+    }
+
+    /**
+     * Supplier throttled the call, the rate is halved and the client paused.
+     * @param retryAfter as requested by the supplier, default is used when null
+     * @return time until which the client is paused
+     */
+    public Instant throttled(String client, Duration retryAfter, Clock clock) {
+        Duration pause = retryAfter == null ? defaultRetryAfter : retryAfter;
+        Bucket bucket = bucket(client, clock);
+        double permitsPerSecond = bucket.decrease(clock.millis() + pause.toMillis());
+
+        log.warn(
+            "Supplier throttled {} client. Pausing calls for {} and lowering rate to {} per second",
+            client,
+            pause,
+            permitsPerSecond
+        );
+        return Instant.ofEpochMilli(bucket.pausedUntil);
+    }
+
+    public double permitsPerSecond(String client, Clock clock) {
+        return bucket(client, clock).permitsPerSecond;
+    }
+
+    private Bucket bucket(String client, Clock clock) {
+        return buckets.computeIfAbsent(String.valueOf(client), key -> new Bucket(clock.millis()));
+    }
+
+    private final class Bucket {
+        private double permitsPerSecond = maxPermitsPerSecond;
+        private double tokens = burst;
+        private long refilledAt;
+        private volatile long pausedUntil;
+
+        private Bucket(long now) {
+            this.refilledAt = now;
+        }
+
+        synchronized Duration reserve(long now, long maxWaitMillis) {
+            if (pausedUntil > now) {
+                return null;
+            }
+            if (refilledAt < now) {
+                tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerSecond / 1000);
+                refilledAt = now;
+            }
+
+            // tokens go negative, calls reserved ahead of the refill queue up behind each other
+            double remaining = tokens - 1;
+            long waitMillis = remaining >= 0 ? 0 : (long) Math.ceil(-remaining * 1000 / permitsPerSecond);
+            if (waitMillis <= maxWaitMillis) {
+                tokens = remaining;
+            }
+            return Duration.ofMillis(waitMillis);
+        }
+
+        synchronized void increase() {
+            permitsPerSecond = Math.min(maxPermitsPerSecond, permitsPerSecond + permitsPerSecondStep);
+        }
+
+        synchronized double decrease(long until) {
+            permitsPerSecond = Math.max(minPermitsPerSecond, permitsPerSecond / 2);
+            // nothing saved up is spent right after the pause
+            tokens = Math.min(tokens, 0);
+            refilledAt = Math.max(refilledAt, until);
+            pausedUntil = Math.max(pausedUntil, until);
+            return permitsPerSecond;
+        }
+    }
+}
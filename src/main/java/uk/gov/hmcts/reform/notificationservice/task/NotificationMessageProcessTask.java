@@ -1,40 +1,109 @@
 package uk.gov.hmcts.reform.notificationservice.task;
 
 import com.azure.messaging.servicebus.ServiceBusProcessorClient;
-import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.notificationservice.service.NotificationMessageProcessor;
+
+import java.time.Duration;
+import java.time.Instant;
 
 //TODO: FACT-2026 - whole class can go
+/**
+ * Runs the notification queue processor for the lifetime of the application.
+ * On shutdown it stops receiving new messages first and waits (up to drain timeout) for messages
+ * being processed to be completed, so their locks are not lost and they are not redelivered.
+ * Stopping is synchronous, so only the drain timeout bounds it,
+ * {@code spring.lifecycle.timeout-per-shutdown-phase} applies to asynchronous stops only.
+ */
 @Service
 @ConditionalOnProperty(value = "scheduling.task.notifications-consume.enabled", matchIfMissing = true)
 @ConditionalOnExpression("!${jms.enabled}")
-public class NotificationMessageProcessTask {
+public class NotificationMessageProcessTask implements SmartLifecycle {
 
-    private final ServiceBusProcessorClient serviceBusProcessorClient;
     private static final Logger log = LoggerFactory.getLogger(NotificationMessageProcessTask.class);
 
+    private static final long DRAIN_CHECK_INTERVAL_IN_MS = 50;
+
+    private final ServiceBusProcessorClient serviceBusProcessorClient;
+    private final NotificationMessageProcessor notificationMessageProcessor;
+    private final Duration drainTimeout;
+
+    private volatile boolean running;
+
     public NotificationMessageProcessTask(
-        ServiceBusProcessorClient serviceBusProcessorClient
+        ServiceBusProcessorClient serviceBusProcessorClient,
+        NotificationMessageProcessor notificationMessageProcessor,
+        @Value("${scheduling.task.notifications-consume.drain-timeout-in-ms:20000}") long drainTimeoutInMs
     ) {
         this.serviceBusProcessorClient = serviceBusProcessorClient;
+        this.notificationMessageProcessor = notificationMessageProcessor;
+        this.drainTimeout = Duration.ofMillis(drainTimeoutInMs);
     }
 
-    @PostConstruct
-    void startProcessor() {
+    @Override
+    public void start() {
         serviceBusProcessorClient.start();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        log.info("Stopping notification queue consume listener");
+        running = false;
+        // no new messages from now on, messages in progress can still be completed
+        serviceBusProcessorClient.stop();
+
+        if (awaitInFlightMessages()) {
+            log.info("Notification queue consume listener drained");
+        } else {
+            log.warn(
+                "Notification queue consume listener not drained within {} ms. Messages still in progress: {}",
+                drainTimeout.toMillis(),
+                notificationMessageProcessor.getInFlightMessages()
+            );
+        }
+
+        serviceBusProcessorClient.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
     }
 
     @Scheduled(fixedDelayString = "${scheduling.task.notifications-consume.check.delay}")
     public void checkServiceBusProcessorClient() {
+        if (!running) {
+            // stopped on purpose, application is shutting down
+            return;
+        }
         if (!serviceBusProcessorClient.isRunning()) {
             log.error("Notification queue consume listener is NOT running!!!");
         } else {
             log.info("Notification queue consume listener is working.");
         }
     }
+
+    private boolean awaitInFlightMessages() {
+        Instant deadline = Instant.now().plus(drainTimeout);
+        while (notificationMessageProcessor.getInFlightMessages() > 0) {
+            if (Instant.now().isAfter(deadline)) {
+                return false;
+            }
+            try {
+                Thread.sleep(DRAIN_CHECK_INTERVAL_IN_MS);
+            } catch (InterruptedException exc) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
 }
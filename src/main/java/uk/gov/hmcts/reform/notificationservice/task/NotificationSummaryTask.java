@@ -0,0 +1,40 @@
+package uk.gov.hmcts.reform.notificationservice.task;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.notificationservice.service.NotificationSummaryService;
+
+import java.time.Clock;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Component
+@ConditionalOnProperty(
+    prefix = "scheduling.task",
+    name = NotificationSummaryTask.TASK_NAME + ".enabled",
+    matchIfMissing = true
+)
+public class NotificationSummaryTask {
+
+    private static final Logger log = getLogger(NotificationSummaryTask.class);
+    public static final String TASK_NAME = "notification-summary";
+
+    private final NotificationSummaryService summaryService;
+
+    public NotificationSummaryTask(NotificationSummaryService summaryService) {
+        this.summaryService = summaryService;
+    }
+
+    @Scheduled(fixedDelayString = "${scheduling.task.notification-summary.delay:300000}")
+    @SchedulerLock(name = TASK_NAME)
+    public void run() {
+        log.info("Started {} task", TASK_NAME);
+
+        summaryService.refreshSummary(Clock.systemUTC());
+
+        log.info("Finished {} task", TASK_NAME);
+    }
+}
@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.notificationservice.task;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.notificationservice.service.NotificationArchiveService;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Component
+@ConditionalOnProperty(
+    prefix = "scheduling.task",
+    name = NotificationsArchiveTask.TASK_NAME + ".enabled"
+)
+public class NotificationsArchiveTask {
+
+    private static final Logger log = getLogger(NotificationsArchiveTask.class);
+    public static final String TASK_NAME = "notifications-archive";
+
+    private final NotificationArchiveService archiveService;
+
+    public NotificationsArchiveTask(NotificationArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    @Scheduled(cron = "${scheduling.task.notifications-archive.cron:0 30 2 * * *}")
+    @SchedulerLock(name = TASK_NAME) // only one node should be moving rows at a time
+    public void run() {
+        log.info("Started {} task", TASK_NAME);
+
+        archiveService.archiveNotifications();
+
+        log.info("Finished {} task", TASK_NAME);
+    }
+}
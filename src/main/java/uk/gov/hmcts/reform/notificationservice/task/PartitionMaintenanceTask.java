@@ -0,0 +1,40 @@
+package uk.gov.hmcts.reform.notificationservice.task;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.notificationservice.service.NotificationPartitionService;
+
+import java.time.Clock;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Component
+@ConditionalOnProperty(
+    prefix = "scheduling.task",
+    name = PartitionMaintenanceTask.TASK_NAME + ".enabled",
+    matchIfMissing = true
+)
+public class PartitionMaintenanceTask {
+
+    private static final Logger log = getLogger(PartitionMaintenanceTask.class);
+    public static final String TASK_NAME = "partition-maintenance";
+
+    private final NotificationPartitionService partitionService;
+
+    public PartitionMaintenanceTask(NotificationPartitionService partitionService) {
+        this.partitionService = partitionService;
+    }
+
+    @Scheduled(cron = "${scheduling.task.partition-maintenance.cron:0 0 3 * * *}")
+    @SchedulerLock(name = TASK_NAME) // DDL on the partitioned table should run from a single node
+    public void run() {
+        log.info("Started {} task", TASK_NAME);
+
+        partitionService.maintainPartitions(Clock.systemUTC());
+
+        log.info("Finished {} task", TASK_NAME);
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.notificationservice.task;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.notificationservice.service.PendingBacklogService;
+
+import java.time.Clock;
+
+/**
+ * Refreshes the pending backlog gauges and health. Runs on every node (no lock) so each instance reports them.
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "scheduling.task",
+    name = PendingBacklogMetricsTask.TASK_NAME + ".enabled",
+    matchIfMissing = true
+)
+public class PendingBacklogMetricsTask {
+
+    public static final String TASK_NAME = "pending-backlog-metrics";
+
+    private final PendingBacklogService pendingBacklogService;
+
+    public PendingBacklogMetricsTask(PendingBacklogService pendingBacklogService) {
+        this.pendingBacklogService = pendingBacklogService;
+    }
+
+    @Scheduled(fixedDelayString = "${scheduling.task.pending-backlog-metrics.delay:30000}")
+    public void run() {
+        pendingBacklogService.refresh(Clock.systemUTC());
+    }
+}
@@ -0,0 +1,158 @@
+package uk.gov.hmcts.reform.notificationservice.task;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import static org.slf4j.LoggerFactory.getLogger;
+import static uk.gov.hmcts.reform.notificationservice.data.NotificationRepository.PENDING_NOTIFICATIONS_CHANNEL;
+
+/**
+ * Wakes up the {@link PendingNotificationsTask} when new pending notifications are inserted.
+ * Listens on a dedicated (non pooled) connection for the NOTIFY issued by the repository and schedules
+ * a dispatcher run for the moment the new notifications become due. The payload of the NOTIFY is the delay
+ * in seconds until then, see {@link uk.gov.hmcts.reform.notificationservice.config.DispatchPolicyConfig}.
+ * The fixed delay schedule of the task stays in place as a safety net for missed notifications
+ * (e.g. while reconnecting).
+ */
+@Component
+@ConditionalOnExpression(
+    "${scheduling.task.pending-notifications.enabled:true}"
+        + " && ${scheduling.task.pending-notifications.listen.enabled:false}"
+)
+public class PendingNotificationsListener {
+
+    private static final Logger log = getLogger(PendingNotificationsListener.class);
+
+    private final DataSourceProperties dataSourceProperties;
+    private final PendingNotificationsTask pendingNotificationsTask;
+    private final TaskScheduler taskScheduler;
+    private final Duration sendDelay;
+    private final Duration coalesceWindow;
+    private final int pollTimeoutInMs;
+    private final long reconnectDelayInMs;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+    // dispatcher runs scheduled and not fired yet
+    private final NavigableSet<Instant> wakeUps = new TreeSet<>();
+
+    public PendingNotificationsListener(
+        DataSourceProperties dataSourceProperties,
+        PendingNotificationsTask pendingNotificationsTask,
+        TaskScheduler taskScheduler,
+        @Value("${scheduling.task.pending-notifications.send-delay-in-minute}") int sendDelayInMinutes,
+        @Value("${scheduling.task.pending-notifications.listen.coalesce-in-ms:1000}") long coalesceInMs,
+        @Value("${scheduling.task.pending-notifications.listen.poll-timeout-in-ms:10000}") int pollTimeoutInMs,
+        @Value("${scheduling.task.pending-notifications.listen.reconnect-delay-in-ms:5000}") long reconnectDelayInMs
+    ) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.pendingNotificationsTask = pendingNotificationsTask;
+        this.taskScheduler = taskScheduler;
+        this.sendDelay = Duration.ofMinutes(sendDelayInMinutes);
+        this.coalesceWindow = Duration.ofMillis(coalesceInMs);
+        this.pollTimeoutInMs = pollTimeoutInMs;
+        this.reconnectDelayInMs = reconnectDelayInMs;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "NOTIFICATION-LISTENER");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    /**
+     * Schedules a dispatcher run for notifications which have just been inserted.
+     * Runs are coalesced: a new run is only scheduled when no scheduled run fires within the coalesce window
+     * after the new notifications are due, so a burst of inserts results in a single dispatcher run.
+     * Runs scheduled for later stay in place, they are still needed for the notifications they were scheduled for.
+     * @param delay time until the new notifications are due
+     */
+    synchronized void scheduleDispatch(Instant now, Duration delay) {
+        wakeUps.headSet(now, true).clear();
+
+        Instant due = now.plus(delay);
+        Instant scheduled = wakeUps.ceiling(due);
+        if (scheduled == null || scheduled.isAfter(due.plus(coalesceWindow))) {
+            Instant wakeUp = due.plus(coalesceWindow);
+            wakeUps.add(wakeUp);
+            taskScheduler.schedule(pendingNotificationsTask::run, wakeUp);
+            log.debug("Pending notifications dispatch scheduled at {}", wakeUp);
+        }
+    }
+
+    private Duration delayOf(PGNotification notification) {
+        try {
+            return Duration.ofSeconds(Long.parseLong(notification.getParameter()));
+        } catch (NumberFormatException exc) {
+            // no delay in the payload, e.g. sent by an older instance during deployment
+            return sendDelay;
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword()
+            )) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + PENDING_NOTIFICATIONS_CHANNEL);
+                }
+                log.info("Listening for new pending notifications on channel {}", PENDING_NOTIFICATIONS_CHANNEL);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutInMs);
+                    if (notifications != null) {
+                        Instant now = Instant.now();
+                        for (PGNotification notification : notifications) {
+                            scheduleDispatch(now, delayOf(notification));
+                        }
+                    }
+                }
+            } catch (SQLException exc) {
+                if (running) {
+                    log.error("Pending notifications listener failed. Reconnecting in {} ms", reconnectDelayInMs, exc);
+                    pauseBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void pauseBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelayInMs);
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
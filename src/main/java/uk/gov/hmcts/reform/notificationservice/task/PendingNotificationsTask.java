@@ -7,6 +7,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.notificationservice.service.NotificationService;
 
+import java.time.Clock;
+
 import static org.slf4j.LoggerFactory.getLogger;
 
 //TODO: FACT-2026 - whole class can go
@@ -32,7 +34,7 @@ public class PendingNotificationsTask {
     public void run() {
         log.info("Started {} task", TASK_NAME);
 
-        notificationService.processPendingNotifications();
+        notificationService.processPendingNotifications(Clock.systemUTC());
 
         log.info("Finished {} task", TASK_NAME);
     }
@@ -9,12 +9,17 @@ import java.time.Instant;
 
 public final class CustomInstantSerializer extends StdSerializer<Instant> {
 
+    // generator copies the chars, so the buffer can be reused by the next date on the same thread
+    private static final ThreadLocal<char[]> BUFFER =
+        ThreadLocal.withInitial(() -> new char[DateFormatter.MAX_FORMATTED_LENGTH]);
+
     CustomInstantSerializer() {
         super(Instant.class);
     }
 
     @Override
     public void serialize(Instant value, JsonGenerator gen, SerializerProvider provider) throws IOException {
-        gen.writeString(DateFormatter.getSimpleDateTime(value));
+        char[] buffer = BUFFER.get();
+        gen.writeString(buffer, 0, DateFormatter.format(value, buffer));
     }
 }
@@ -2,19 +2,136 @@ package uk.gov.hmcts.reform.notificationservice.util;
 
 import java.time.Instant;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 
-final class DateFormatter {
+/**
+ * Formats instants as {@code yyyy-MM-dd'T'HH:mm:ss} in Europe/London time.
+ * Every notification in an API response has two dates, so the common case writes digits straight into
+ * a char buffer and reuses the offset of the last seen DST period instead of resolving the zone each time.
+ */
+public final class DateFormatter {
+
+    /**
+     * Length of a formatted date with a four-digit year. Years outside 1-9999 produce longer values.
+     */
+    public static final int FORMATTED_LENGTH = 19;
+
+    /**
+     * Buffer size that fits any formatted instant.
+     */
+    public static final int MAX_FORMATTED_LENGTH = 32;
 
     private static final String DATETIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
-    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATETIME_PATTERN);
+    private static final ZoneId ZONE = ZoneId.of("Europe/London");
+    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATETIME_PATTERN).withZone(ZONE);
+    private static final ZoneRules ZONE_RULES = ZONE.getRules();
+
+    private static final int SECONDS_PER_DAY = 86_400;
+    // days from 0000-03-01 to 1970-01-01, see civil_from_days in http://howardhinnant.github.io/date_algorithms.html
+    private static final int DAYS_0000_TO_1970 = 719_468;
+    private static final int DAYS_PER_400_YEARS = 146_097;
+
+    // offset between two consecutive DST transitions, replaced when an instant falls outside of it
+    private static volatile OffsetPeriod lastPeriod = OffsetPeriod.containing(Instant.now().getEpochSecond());
+
+    public static String getSimpleDateTime(final Instant instant) {
+        char[] buffer = new char[MAX_FORMATTED_LENGTH];
+        return new String(buffer, 0, format(instant, buffer));
+    }
+
+    /**
+     * Writes formatted instant to the start of the buffer.
+     * @param instant instant to format
+     * @param buffer at least {@link #MAX_FORMATTED_LENGTH} long
+     * @return number of chars written
+     */
+    public static int format(final Instant instant, final char[] buffer) {
+        long epochSecond = instant.getEpochSecond();
+        OffsetPeriod period = lastPeriod;
+        if (!period.contains(epochSecond)) {
+            period = OffsetPeriod.containing(epochSecond);
+            lastPeriod = period;
+        }
+
+        long localSecond = epochSecond + period.offsetSeconds;
+        long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+
+        long z = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(z, DAYS_PER_400_YEARS);
+        int dayOfEra = (int) (z - era * DAYS_PER_400_YEARS);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < 1 || year > 9999) {
+            // signed or era-adjusted years, rare enough to go through the formatter
+            String formatted = formatter.format(instant);
+            formatted.getChars(0, formatted.length(), buffer, 0);
+            return formatted.length();
+        }
 
-    static String getSimpleDateTime(final Instant instant) {
-        return formatter.format(ZonedDateTime.ofInstant(instant, ZoneId.of("Europe/London")));
+        write4(buffer, 0, (int) year);
+        buffer[4] = '-';
+        write2(buffer, 5, month);
+        buffer[7] = '-';
+        write2(buffer, 8, day);
+        buffer[10] = 'T';
+        write2(buffer, 11, secondOfDay / 3600);
+        buffer[13] = ':';
+        write2(buffer, 14, secondOfDay / 60 % 60);
+        buffer[16] = ':';
+        write2(buffer, 17, secondOfDay % 60);
+        return FORMATTED_LENGTH;
+    }
+
+    private static void write2(char[] buffer, int pos, int value) {
+        buffer[pos] = (char) ('0' + value / 10);
+        buffer[pos + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void write4(char[] buffer, int pos, int value) {
+        write2(buffer, pos, value / 100);
+        write2(buffer, pos + 2, value % 100);
     }
 
     private DateFormatter() {
         // utility class constructor
     }
+
+    /**
+     * Seconds [from, until) between two transitions of the zone, during which the offset does not change.
+     */
+    private static final class OffsetPeriod {
+        final long from;
+        final long until;
+        final int offsetSeconds;
+
+        private OffsetPeriod(long from, long until, int offsetSeconds) {
+            this.from = from;
+            this.until = until;
+            this.offsetSeconds = offsetSeconds;
+        }
+
+        boolean contains(long epochSecond) {
+            return epochSecond >= from && epochSecond < until;
+        }
+
+        static OffsetPeriod containing(long epochSecond) {
+            Instant instant = Instant.ofEpochSecond(epochSecond);
+            // previousTransition is strictly before the given instant, so a transition at epochSecond counts
+            ZoneOffsetTransition previous = ZONE_RULES.previousTransition(Instant.ofEpochSecond(epochSecond + 1));
+            ZoneOffsetTransition next = ZONE_RULES.nextTransition(instant);
+            return new OffsetPeriod(
+                previous == null ? Long.MIN_VALUE : previous.toEpochSecond(),
+                next == null ? Long.MAX_VALUE : next.toEpochSecond(),
+                ZONE_RULES.getOffset(instant).getTotalSeconds()
+            );
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.notificationservice.util;
+
+import org.slf4j.MDC;
+
+/**
+ * MDC keys describing the notification message being processed. They are attached to every log event
+ * (as JSON attributes), so the per-message summary does not need to repeat them in the text.
+ */
+public final class LoggingContext {
+
+    public static final String MESSAGE_ID = "messageId";
+    public static final String NOTIFICATION_ID = "notificationId";
+    public static final String ZIP_FILE_NAME = "zipFileName";
+    public static final String SERVICE = "service";
+    public static final String CLIENT = "client";
+
+    private static final String[] KEYS = {MESSAGE_ID, NOTIFICATION_ID, ZIP_FILE_NAME, SERVICE, CLIENT};
+
+    private LoggingContext() {
+        // utility class
+    }
+
+    /**
+     * Removes all message keys, to be called once the message is processed as threads are reused.
+     */
+    public static void clear() {
+        for (String key : KEYS) {
+            MDC.remove(key);
+        }
+    }
+}
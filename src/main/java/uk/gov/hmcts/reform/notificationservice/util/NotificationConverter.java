@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.notificationservice.util;
 import org.apache.commons.lang3.StringUtils;
 import uk.gov.hmcts.reform.notificationservice.data.NewNotification;
 import uk.gov.hmcts.reform.notificationservice.data.Notification;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationClients;
 import uk.gov.hmcts.reform.notificationservice.model.in.NotifyRequest;
 import uk.gov.hmcts.reform.notificationservice.model.out.NotificationInfo;
 
@@ -42,7 +43,7 @@ public final class NotificationConverter {
                 ),
             notification.createdAt,
             notification.processedAt,
-            notification.status.name()
+            notification.status
         );
     }
 
@@ -57,6 +58,17 @@ public final class NotificationConverter {
      * @return a new notification for the database to save
      */
     public static NewNotification toNewNotification(NotifyRequest notifyRequest, String client) {
+        return toNewNotification(notifyRequest, client, "");
+    }
+
+    /**
+     * Maps an API request notification to a notification for the database to save, with the given message ID.
+     * @param notifyRequest the external request version of a notification
+     * @param client the client that should be used to notify the supplier
+     * @param messageId value stored as message ID, e.g. idempotency key of a batch item
+     * @return a new notification for the database to save
+     */
+    public static NewNotification toNewNotification(NotifyRequest notifyRequest, String client, String messageId) {
         return new NewNotification(
             notifyRequest.zipFileName,
             StringUtils.defaultIfEmpty(notifyRequest.poBox, ""),
@@ -65,8 +77,8 @@ public final class NotificationConverter {
             StringUtils.defaultIfEmpty(notifyRequest.documentControlNumber, ""),
             notifyRequest.errorCode,
             notifyRequest.errorDescription,
-            "",
-            StringUtils.defaultIfEmpty(client, "primary")
+            messageId,
+            StringUtils.defaultIfEmpty(client, NotificationClients.PRIMARY)
         );
     }
 }
@@ -0,0 +1,41 @@
+-- Convert notifications into a table partitioned monthly by created_at.
+-- Primary key has to contain the partition key, hence (id, created_at).
+ALTER TABLE notifications RENAME TO notifications_unpartitioned;
+ALTER INDEX notifications_pkey RENAME TO notifications_unpartitioned_pkey;
+ALTER INDEX notifications_zipfilename_service_idx RENAME TO notifications_unpartitioned_zipfilename_service_idx;
+ALTER INDEX notifications_status_idx RENAME TO notifications_unpartitioned_status_idx;
+
+CREATE TABLE notifications (
+  LIKE notifications_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+  PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE notifications_id_seq OWNED BY notifications.id;
+
+CREATE INDEX notifications_zipfilename_service_idx ON notifications (zip_file_name, service);
+CREATE INDEX notifications_status_idx ON notifications (status);
+
+-- catches rows outside of the pre-created monthly partitions
+CREATE TABLE notifications_default PARTITION OF notifications DEFAULT;
+
+-- monthly partitions from the oldest notification until a few months ahead
+-- PartitionMaintenanceTask keeps creating future partitions from now on
+DO $$
+DECLARE
+  month_start DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM notifications_unpartitioned), NOW()));
+  last_month  DATE := date_trunc('month', NOW() + INTERVAL '3 months');
+BEGIN
+  WHILE month_start <= last_month LOOP
+    EXECUTE format(
+      'CREATE TABLE %I PARTITION OF notifications FOR VALUES FROM (%L) TO (%L)',
+      'notifications_' || to_char(month_start, 'YYYY_MM'),
+      month_start,
+      month_start + INTERVAL '1 month'
+    );
+    month_start := month_start + INTERVAL '1 month';
+  END LOOP;
+END $$;
+
+INSERT INTO notifications SELECT * FROM notifications_unpartitioned;
+
+DROP TABLE notifications_unpartitioned;
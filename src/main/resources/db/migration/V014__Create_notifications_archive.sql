@@ -0,0 +1,8 @@
+-- SENT/FAILED notifications past the retention period are moved here by the notifications-archive task
+CREATE TABLE notifications_archive (
+  LIKE notifications,
+  archived_at TIMESTAMP NOT NULL DEFAULT NOW(),
+  PRIMARY KEY (id)
+);
+
+CREATE INDEX notifications_archive_zipfilename_service_idx ON notifications_archive (zip_file_name, service);
@@ -0,0 +1,19 @@
+-- notification counts per creation date, maintained by the notification-summary task
+CREATE TABLE notification_daily_summary (
+  summary_date         DATE          NOT NULL,
+  service              VARCHAR(100)  NOT NULL,
+  status               VARCHAR(50)   NOT NULL,
+  error_code           VARCHAR(25)   NOT NULL,
+  client               VARCHAR(30)   NOT NULL,
+  notifications_count  BIGINT        NOT NULL,
+  PRIMARY KEY (summary_date, service, status, error_code, client)
+);
+
+INSERT INTO notification_daily_summary (summary_date, service, status, error_code, client, notifications_count)
+SELECT DATE(created_at), service, status, error_code, COALESCE(client, 'primary'), COUNT(*)
+FROM (
+  SELECT created_at, service, status, error_code, client FROM notifications
+  UNION ALL
+  SELECT created_at, service, status, error_code, client FROM notifications_archive
+) AS all_notifications
+GROUP BY 1, 2, 3, 4, 5;
@@ -0,0 +1,47 @@
+-- status, error_code and client are stored as smallint codes
+-- see NotificationStatus, ErrorCode and NotificationClients for the mapping
+CREATE FUNCTION pg_temp.status_code(status VARCHAR) RETURNS SMALLINT AS $$
+  SELECT CASE status
+    WHEN 'PENDING' THEN 0
+    WHEN 'FAILED' THEN 1
+    WHEN 'SENT' THEN 2
+    WHEN 'MANUALLY_HANDLED' THEN 3
+    WHEN 'CREATED' THEN 4
+  END::SMALLINT
+$$ LANGUAGE SQL IMMUTABLE;
+
+CREATE FUNCTION pg_temp.error_code_code(error_code VARCHAR) RETURNS SMALLINT AS $$
+  SELECT CASE error_code
+    WHEN 'ERR_FILE_LIMIT_EXCEEDED' THEN 0
+    WHEN 'ERR_METAFILE_INVALID' THEN 1
+    WHEN 'ERR_PAYMENTS_DISABLED' THEN 2
+    WHEN 'ERR_SERVICE_DISABLED' THEN 3
+    WHEN 'ERR_AV_FAILED' THEN 4
+    WHEN 'ERR_SIG_VERIFY_FAILED' THEN 5
+    WHEN 'ERR_RESCAN_REQUIRED' THEN 6
+    WHEN 'ERR_ZIP_PROCESSING_FAILED' THEN 7
+  END::SMALLINT
+$$ LANGUAGE SQL IMMUTABLE;
+
+CREATE FUNCTION pg_temp.client_code(client VARCHAR) RETURNS SMALLINT AS $$
+  SELECT CASE WHEN client = 'secondary' THEN 1 ELSE 0 END::SMALLINT
+$$ LANGUAGE SQL IMMUTABLE;
+
+ALTER TABLE notifications
+  ALTER COLUMN status TYPE SMALLINT USING pg_temp.status_code(status),
+  ALTER COLUMN error_code TYPE SMALLINT USING pg_temp.error_code_code(error_code),
+  ALTER COLUMN client TYPE SMALLINT USING pg_temp.client_code(client);
+
+ALTER TABLE notifications
+  ALTER COLUMN client SET DEFAULT 0,
+  ALTER COLUMN client SET NOT NULL;
+
+ALTER TABLE notifications_archive
+  ALTER COLUMN status TYPE SMALLINT USING pg_temp.status_code(status),
+  ALTER COLUMN error_code TYPE SMALLINT USING pg_temp.error_code_code(error_code),
+  ALTER COLUMN client TYPE SMALLINT USING pg_temp.client_code(client);
+
+ALTER TABLE notification_daily_summary
+  ALTER COLUMN status TYPE SMALLINT USING pg_temp.status_code(status),
+  ALTER COLUMN error_code TYPE SMALLINT USING pg_temp.error_code_code(error_code),
+  ALTER COLUMN client TYPE SMALLINT USING pg_temp.client_code(client);
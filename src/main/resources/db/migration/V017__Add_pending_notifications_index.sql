@@ -0,0 +1,3 @@
+-- partial index over pending notifications only, keeps the backlog query (count and oldest per client)
+-- an index-only scan no matter how many sent/failed notifications are stored
+CREATE INDEX notifications_pending_client_created_at_idx ON notifications (client, created_at) WHERE status = 0;
@@ -0,0 +1,2 @@
+-- lets the bulk search (POST /notifications/search) look notifications up by DCN
+CREATE INDEX notifications_dcn_idx ON notifications (document_control_number);
@@ -0,0 +1,3 @@
+-- idempotency keys of batch submissions (POST /notifications/batch) are stored as message ids
+-- and looked up before every batch insert
+CREATE INDEX notifications_message_id_idx ON notifications (message_id);
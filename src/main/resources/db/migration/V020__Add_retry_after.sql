@@ -0,0 +1,4 @@
+-- set when the supplier throttles a notification (429 or 503 with Retry-After),
+-- the dispatcher leaves the notification pending until then
+ALTER TABLE notifications ADD COLUMN retry_after TIMESTAMP NULL;
+ALTER TABLE notifications_archive ADD COLUMN retry_after TIMESTAMP NULL;
@@ -0,0 +1,6 @@
+-- dispatch priority, higher is sent first, see DispatchPolicyConfig
+ALTER TABLE notifications ADD COLUMN priority SMALLINT NOT NULL DEFAULT 1;
+ALTER TABLE notifications_archive ADD COLUMN priority SMALLINT NOT NULL DEFAULT 1;
+
+-- pending claim query takes the most urgent notifications first
+CREATE INDEX notifications_pending_priority_idx ON notifications (priority DESC, id) WHERE status = 0;
@@ -0,0 +1,14 @@
+-- time from which a pending notification can be sent, set on insert from the dispatch policy
+-- (see DispatchPolicyConfig) and moved forward when the supplier asks to retry later
+ALTER TABLE notifications ADD COLUMN dispatch_not_before TIMESTAMP NULL;
+ALTER TABLE notifications_archive ADD COLUMN dispatch_not_before TIMESTAMP NULL;
+
+-- notifications pending before this change keep the configured global delay (send-delay-in-minute)
+UPDATE notifications
+SET dispatch_not_before = GREATEST(
+  created_at + make_interval(mins => ${send_delay_in_minute}),
+  COALESCE(retry_after, created_at)
+)
+WHERE status = 0;
+
+CREATE INDEX notifications_pending_dispatch_not_before_idx ON notifications (dispatch_not_before) WHERE status = 0;
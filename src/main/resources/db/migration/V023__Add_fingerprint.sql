@@ -0,0 +1,6 @@
+-- identifies equivalent notifications (same service, zip file and error code), see NotificationFingerprint.
+-- pending notifications are coalesced by fingerprint before dispatch, older rows are left without one
+ALTER TABLE notifications ADD COLUMN fingerprint BIGINT NULL;
+ALTER TABLE notifications_archive ADD COLUMN fingerprint BIGINT NULL;
+
+CREATE INDEX notifications_pending_fingerprint_idx ON notifications (fingerprint) WHERE status = 0;
@@ -0,0 +1,45 @@
+-- Creates the monthly partition of notifications starting at month_start unless it exists already.
+-- Rows which landed in the default partition before the monthly one existed are moved into it,
+-- otherwise the partition could not be created while the default partition holds rows of its range.
+-- Inserts are blocked until the calling transaction ends, so none lands in the default partition between
+-- moving its rows and attaching the new partition (which would make the attach fail).
+CREATE FUNCTION create_notifications_partition(month_start DATE) RETURNS VOID AS $$
+DECLARE
+  partition_name TEXT := 'notifications_' || to_char(month_start, 'YYYY_MM');
+  month_end      DATE := month_start + INTERVAL '1 month';
+BEGIN
+  IF to_regclass(partition_name) IS NOT NULL THEN
+    RETURN;
+  END IF;
+
+  LOCK TABLE notifications IN SHARE ROW EXCLUSIVE MODE;
+  -- checked again, a concurrent call may have created the partition while this one waited for the lock
+  IF to_regclass(partition_name) IS NOT NULL THEN
+    RETURN;
+  END IF;
+
+  EXECUTE format('CREATE TABLE %I (LIKE notifications INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+  EXECUTE format(
+    'WITH moved AS ('
+      || 'DELETE FROM notifications_default WHERE created_at >= $1 AND created_at < $2 RETURNING *'
+      || ') INSERT INTO %I SELECT * FROM moved',
+    partition_name
+  ) USING month_start, month_end;
+  EXECUTE format(
+    'ALTER TABLE notifications ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+    partition_name,
+    month_start,
+    month_end
+  );
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detaches the monthly partition of notifications starting at month_start, the detached table is kept.
+CREATE FUNCTION detach_notifications_partition(month_start DATE) RETURNS VOID AS $$
+BEGIN
+  EXECUTE format(
+    'ALTER TABLE notifications DETACH PARTITION %I',
+    'notifications_' || to_char(month_start, 'YYYY_MM')
+  );
+END;
+$$ LANGUAGE plpgsql;
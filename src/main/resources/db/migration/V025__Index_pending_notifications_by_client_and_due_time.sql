@@ -0,0 +1,5 @@
+-- backlog query (count and oldest due time per client) aggregates dispatch_not_before since pending notifications
+-- are measured from when they become due, the created_at index of V017 no longer covers it
+DROP INDEX notifications_pending_client_created_at_idx;
+CREATE INDEX notifications_pending_client_dispatch_not_before_idx
+  ON notifications (client, dispatch_not_before) WHERE status = 0;
@@ -0,0 +1,2 @@
+-- lane backlog query counts pending notifications per service and client, partial index keeps it an index-only scan
+CREATE INDEX notifications_pending_service_client_idx ON notifications (service, client) WHERE status = 0;
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.notificationservice.config;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DispatchPolicyConfigTest {
+
+    private final DispatchPolicyConfig config = new DispatchPolicyConfig(
+        "ERR_AV_FAILED:3, ERR_RESCAN_REQUIRED:0",
+        "Probate:2",
+        120,
+        "probate:PT5M",
+        "ERR_AV_FAILED:PT0S",
+        "secondary:PT30M"
+    );
+
+    @Test
+    void should_use_error_code_priority() {
+        assertThat(config.getPriority(ErrorCode.ERR_AV_FAILED, "bulkscan")).isEqualTo((short) 3);
+        assertThat(config.getPriority(ErrorCode.ERR_RESCAN_REQUIRED, "bulkscan")).isEqualTo((short) 0);
+    }
+
+    @Test
+    void should_use_higher_of_error_code_and_service_priority() {
+        assertThat(config.getPriority(ErrorCode.ERR_RESCAN_REQUIRED, "probate")).isEqualTo((short) 2);
+        assertThat(config.getPriority(ErrorCode.ERR_AV_FAILED, "probate")).isEqualTo((short) 3);
+    }
+
+    @Test
+    void should_use_default_priority_when_not_configured() {
+        assertThat(config.getPriority(ErrorCode.ERR_METAFILE_INVALID, "bulkscan")).isEqualTo((short) 1);
+        assertThat(config.getPriority(ErrorCode.ERR_METAFILE_INVALID, null)).isEqualTo((short) 1);
+        assertThat(policy("", "").getPriority(ErrorCode.ERR_AV_FAILED, "probate")).isEqualTo((short) 1);
+    }
+
+    @Test
+    void should_allow_configured_priority_below_default() {
+        assertThat(policy("", "bulkscan:0").getPriority(ErrorCode.ERR_METAFILE_INVALID, "bulkscan"))
+            .isEqualTo((short) 0);
+        assertThat(policy("ERR_RESCAN_REQUIRED:0", "bulkscan:0").getPriority(ErrorCode.ERR_RESCAN_REQUIRED, "Bulkscan"))
+            .isEqualTo((short) 0);
+    }
+
+    @Test
+    void should_use_most_specific_send_delay() {
+        // service
+        assertThat(config.getDelay(ErrorCode.ERR_AV_FAILED, "Probate", "secondary")).isEqualTo(Duration.ofMinutes(5));
+        // error code
+        assertThat(config.getDelay(ErrorCode.ERR_AV_FAILED, "bulkscan", "secondary")).isZero();
+        // client
+        assertThat(config.getDelay(ErrorCode.ERR_METAFILE_INVALID, "bulkscan", "secondary"))
+            .isEqualTo(Duration.ofMinutes(30));
+        // global
+        assertThat(config.getDelay(ErrorCode.ERR_METAFILE_INVALID, "bulkscan", "primary"))
+            .isEqualTo(Duration.ofMinutes(120));
+    }
+
+    @Test
+    void should_reject_invalid_entries() {
+        assertThatThrownBy(() -> policy("ERR_UNKNOWN:2", ""))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("ERR_UNKNOWN");
+        assertThatThrownBy(() -> policy("", "probate:-1"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DispatchPolicyConfig("", "", 120, "probate:5 minutes", "", ""))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("probate");
+        assertThatThrownBy(() -> new DispatchPolicyConfig("", "", 120, "", "", "primary:-PT1M"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static DispatchPolicyConfig policy(String errorCodePriorities, String servicePriorities) {
+        return new DispatchPolicyConfig(errorCodePriorities, servicePriorities, 120, "", "", "");
+    }
+}
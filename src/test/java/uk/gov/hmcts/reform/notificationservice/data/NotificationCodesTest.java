@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.notificationservice.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationCodesTest {
+
+    @ParameterizedTest
+    @EnumSource(NotificationStatus.class)
+    void should_decode_status_from_its_code(NotificationStatus status) {
+        assertThat(NotificationStatus.fromCode(status.code)).isSameAs(status);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ErrorCode.class)
+    void should_decode_error_code_from_its_code(ErrorCode errorCode) {
+        assertThat(ErrorCode.fromCode(errorCode.code)).isSameAs(errorCode);
+    }
+
+    @Test
+    void should_keep_codes_stored_in_database() {
+        // codes are persisted, changing them requires a data migration
+        assertThat(NotificationStatus.PENDING.code).isEqualTo((short) 0);
+        assertThat(NotificationStatus.CREATED.code).isEqualTo((short) 4);
+        assertThat(ErrorCode.ERR_FILE_LIMIT_EXCEEDED.code).isEqualTo((short) 0);
+        assertThat(ErrorCode.ERR_ZIP_PROCESSING_FAILED.code).isEqualTo((short) 7);
+        assertThat(NotificationClients.toCode(NotificationClients.PRIMARY)).isEqualTo((short) 0);
+        assertThat(NotificationClients.toCode(NotificationClients.SECONDARY)).isEqualTo((short) 1);
+    }
+
+    @Test
+    void should_treat_missing_client_as_primary() {
+        assertThat(NotificationClients.fromCode(NotificationClients.toCode(null))).isEqualTo(NotificationClients.PRIMARY);
+    }
+
+    @Test
+    void should_reject_unknown_codes() {
+        assertThatThrownBy(() -> NotificationStatus.fromCode(5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ErrorCode.fromCode(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> NotificationClients.fromCode(2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> NotificationClients.toCode("other")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
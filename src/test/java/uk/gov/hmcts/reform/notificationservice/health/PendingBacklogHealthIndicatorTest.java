@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.notificationservice.health;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import uk.gov.hmcts.reform.notificationservice.data.PendingBacklog;
+import uk.gov.hmcts.reform.notificationservice.service.PendingBacklogService;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PendingBacklogHealthIndicatorTest {
+
+    private static final Instant MEASURED_AT = Instant.parse("2024-03-01T10:00:00Z");
+
+    @Mock
+    private PendingBacklogService pendingBacklogService;
+
+    private PendingBacklogHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        healthIndicator = new PendingBacklogHealthIndicator(pendingBacklogService, 60);
+    }
+
+    @Test
+    void should_be_unknown_when_backlog_was_not_measured_yet() {
+        // given
+        given(pendingBacklogService.getLatest()).willReturn(Optional.empty());
+
+        // when
+        Health health = healthIndicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
+    }
+
+    @Test
+    void should_be_up_when_lag_is_within_slo() {
+        // given
+        givenBacklog(
+            new PendingBacklog("primary", 3, MEASURED_AT.minus(59, MINUTES)),
+            new PendingBacklog("secondary", 1, MEASURED_AT.minus(5, MINUTES))
+        );
+
+        // when
+        Health health = healthIndicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails())
+            .containsEntry("maxLagInSeconds", 59 * 60L)
+            .containsEntry("lagSloInSeconds", 60 * 60L);
+        assertThat(health.getDetails().get("clients")).isEqualTo(Map.of(
+            "primary", Map.of("pending", 3L, "lagInSeconds", 59 * 60L),
+            "secondary", Map.of("pending", 1L, "lagInSeconds", 5 * 60L)
+        ));
+    }
+
+    @Test
+    void should_be_up_when_there_are_no_pending_notifications() {
+        // given
+        givenBacklog();
+
+        // when
+        Health health = healthIndicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("maxLagInSeconds", 0L);
+    }
+
+    @Test
+    void should_not_count_notifications_which_are_not_due_yet_as_lag() {
+        // given
+        givenBacklog(new PendingBacklog("primary", 2, MEASURED_AT.plus(90, MINUTES)));
+
+        // when
+        Health health = healthIndicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("maxLagInSeconds", 0L);
+    }
+
+    @Test
+    void should_be_degraded_when_lag_of_any_client_breaches_slo() {
+        // given
+        givenBacklog(
+            new PendingBacklog("primary", 3, MEASURED_AT.minus(5, MINUTES)),
+            new PendingBacklog("secondary", 1, MEASURED_AT.minus(61, MINUTES))
+        );
+
+        // when
+        Health health = healthIndicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(PendingBacklogHealthIndicator.DEGRADED);
+        assertThat(health.getDetails()).containsEntry("maxLagInSeconds", 61 * 60L);
+    }
+
+    private void givenBacklog(PendingBacklog... backlog) {
+        given(pendingBacklogService.getLatest())
+            .willReturn(Optional.of(new PendingBacklogService.Measurement(MEASURED_AT, List.of(backlog))));
+    }
+}
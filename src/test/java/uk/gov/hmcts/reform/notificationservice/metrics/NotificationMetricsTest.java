@@ -0,0 +1,108 @@
+package uk.gov.hmcts.reform.notificationservice.metrics;
+
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.notificationservice.data.LaneBacklog;
+import uk.gov.hmcts.reform.notificationservice.data.PendingBacklog;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final NotificationMetrics metrics = new NotificationMetrics(registry);
+
+    @Test
+    void should_count_dispatch_outcomes_per_client() {
+        metrics.dispatched("primary", NotificationMetrics.OUTCOME_SENT);
+        metrics.dispatched("primary", NotificationMetrics.OUTCOME_SENT);
+        metrics.dispatched("secondary", NotificationMetrics.OUTCOME_POSTPONED);
+
+        assertThat(
+            registry.get("notifications.dispatch").tags("client", "primary", "outcome", "sent").counter().count()
+        ).isEqualTo(2);
+        assertThat(registry.get("notifications.dispatch").tags("client", "secondary").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void should_time_supplier_call_with_response_status() {
+        // when
+        String result = metrics.recordSupplierCall("primary", () -> "ok");
+        assertThatThrownBy(() -> metrics.recordSupplierCall("primary", () -> {
+            throw badRequest();
+        })).isInstanceOf(FeignException.BadRequest.class);
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(registry.get("notifications.supplier.call").tags("status", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("notifications.supplier.call").tags("status", "400").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void should_report_pending_backlog_per_client() {
+        // when
+        metrics.updatePendingBacklog(List.of(new PendingBacklog("primary", 5, Instant.now().minusSeconds(120))));
+
+        // then
+        assertThat(registry.get("notifications.pending").tag("client", "primary").gauge().value()).isEqualTo(5);
+        assertThat(registry.get("notifications.pending.oldest.age").tag("client", "primary").gauge().value())
+            .isBetween(119.0, 125.0);
+        assertThat(registry.get("notifications.pending").tag("client", "secondary").gauge().value()).isZero();
+
+        // when
+        metrics.updatePendingBacklog(List.of());
+
+        // then
+        assertThat(registry.get("notifications.pending").tag("client", "primary").gauge().value()).isZero();
+        assertThat(registry.get("notifications.pending.oldest.age").tag("client", "primary").gauge().value())
+            .isZero();
+    }
+
+    @Test
+    void should_report_pending_backlog_per_lane() {
+        // when
+        metrics.updateLaneBacklog(List.of(
+            new LaneBacklog("bulkscan", "primary", 7),
+            new LaneBacklog("civil", "secondary", 2)
+        ));
+
+        // then
+        assertThat(registry.get("notifications.pending.lane").tags("service", "bulkscan", "client", "primary")
+                       .gauge().value()).isEqualTo(7);
+        assertThat(registry.get("notifications.pending.lane").tags("service", "civil", "client", "secondary")
+                       .gauge().value()).isEqualTo(2);
+
+        // when
+        metrics.updateLaneBacklog(List.of(new LaneBacklog("civil", "secondary", 1)));
+
+        // then
+        assertThat(registry.get("notifications.pending.lane").tags("service", "bulkscan", "client", "primary")
+                       .gauge().value()).isZero();
+        assertThat(registry.get("notifications.pending.lane").tags("service", "civil", "client", "secondary")
+                       .gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void should_count_dead_letters_by_reason() {
+        metrics.deadLettered("Too many deliveries");
+
+        assertThat(registry.get("notifications.message.dead_letter").tag("reason", "Too many deliveries").counter()
+            .count()).isEqualTo(1);
+    }
+
+    private static FeignException badRequest() {
+        Request request = Request.create(
+            Request.HttpMethod.POST, "/notifications", Collections.emptyMap(), null, UTF_8, null
+        );
+        return new FeignException.BadRequest("bad request", request, null, null);
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.notificationservice.model.out;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.CREATED;
+import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.FAILED;
+import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.MANUALLY_HANDLED;
+import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.PENDING;
+import static uk.gov.hmcts.reform.notificationservice.data.NotificationStatus.SENT;
+
+class NotificationsResponseTest {
+
+    @Test
+    void should_count_notifications_by_status() {
+        // when
+        var response = new NotificationsResponse(List.of(
+            notificationInfo(1, SENT),
+            notificationInfo(2, SENT),
+            notificationInfo(3, PENDING),
+            notificationInfo(4, FAILED),
+            notificationInfo(5, CREATED),
+            notificationInfo(6, CREATED),
+            notificationInfo(7, MANUALLY_HANDLED)
+        ));
+
+        // then
+        assertThat(response.count).isEqualTo(7);
+        assertThat(response.sentNotificationsCount).isEqualTo(2);
+        assertThat(response.pendingNotificationsCount).isEqualTo(1);
+        assertThat(response.failedNotificationsCount).isEqualTo(1);
+        assertThat(response.createdNotificationsCount).isEqualTo(2);
+        assertThat(response.manuallyHandledNotificationsCount).isEqualTo(1);
+    }
+
+    @Test
+    void should_return_zero_counts_when_there_are_no_notifications() {
+        // when
+        var response = new NotificationsResponse(List.of());
+
+        // then
+        assertThat(response.count).isZero();
+        assertThat(response.sentNotificationsCount).isZero();
+        assertThat(response.pendingNotificationsCount).isZero();
+        assertThat(response.failedNotificationsCount).isZero();
+        assertThat(response.createdNotificationsCount).isZero();
+        assertThat(response.manuallyHandledNotificationsCount).isZero();
+    }
+
+    private static NotificationInfo notificationInfo(long id, NotificationStatus status) {
+        return new NotificationInfo(
+            id,
+            "confirmation-id",
+            "file.zip",
+            "po_box",
+            "container",
+            "service",
+            "dcn",
+            "ERR_AV_FAILED",
+            "error",
+            Instant.now(),
+            Instant.now(),
+            status
+        );
+    }
+}
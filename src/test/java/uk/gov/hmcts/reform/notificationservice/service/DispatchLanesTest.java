@@ -0,0 +1,109 @@
+package uk.gov.hmcts.reform.notificationservice.service;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.notificationservice.data.Notification;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationStatus;
+import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DispatchLanesTest {
+
+    @Test
+    void should_interleave_lanes_of_equal_weight() {
+        // given
+        var lanes = new DispatchLanes("", 100);
+
+        // when
+        List<Notification> ordered = lanes.order(List.of(
+            notification(1, "bulkscan", "primary"),
+            notification(2, "bulkscan", "primary"),
+            notification(3, "bulkscan", "primary"),
+            notification(4, "civil", "secondary"),
+            notification(5, "bulkscan", "secondary"),
+            notification(6, "civil", "secondary")
+        ));
+
+        // then
+        assertThat(ordered).extracting(notification -> notification.id).containsExactly(1L, 4L, 5L, 2L, 6L, 3L);
+    }
+
+    @Test
+    void should_give_lanes_turns_in_proportion_to_service_weight() {
+        // given
+        var lanes = new DispatchLanes("bulkscan:3, Civil:1", 100);
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            notifications.add(notification(i, i <= 4 ? "civil" : "bulkscan", "primary"));
+        }
+
+        // when
+        List<Notification> ordered = lanes.order(notifications);
+
+        // then
+        assertThat(ordered.subList(0, 4))
+            .extracting(notification -> notification.service)
+            .containsExactlyInAnyOrder("bulkscan", "bulkscan", "bulkscan", "civil");
+        // each lane keeps its own order
+        assertThat(ordered)
+            .filteredOn(notification -> notification.service.equals("civil"))
+            .extracting(notification -> notification.id)
+            .containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void should_send_higher_priority_notifications_first() {
+        // given
+        var lanes = new DispatchLanes("", 100);
+
+        // when
+        List<Notification> ordered = lanes.order(List.of(
+            notification(1, "bulkscan", "primary", 1),
+            notification(2, "bulkscan", "primary", 1),
+            notification(3, "civil", "secondary", 0),
+            notification(4, "civil", "secondary", 2),
+            notification(5, "bulkscan", "primary", 2)
+        ));
+
+        // then
+        assertThat(ordered).extracting(notification -> notification.id).containsExactly(4L, 5L, 1L, 2L, 3L);
+    }
+
+    @Test
+    void should_reject_invalid_weights() {
+        assertThatThrownBy(() -> new DispatchLanes("bulkscan", 100))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("bulkscan");
+        assertThatThrownBy(() -> new DispatchLanes("bulkscan:0", 100))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Notification notification(long id, String service, String client) {
+        return notification(id, service, client, Notification.DEFAULT_PRIORITY);
+    }
+
+    private static Notification notification(long id, String service, String client, int priority) {
+        return new Notification(
+            id,
+            null,
+            "zip" + id,
+            "po_box",
+            "bulkscan",
+            service,
+            "DCN",
+            ErrorCode.ERR_METAFILE_INVALID,
+            "invalid metafile",
+            Instant.now(),
+            null,
+            NotificationStatus.PENDING,
+            "message" + id,
+            client,
+            priority
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.notificationservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationArchiveRepository;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationArchiveRepository.ArchivedBatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationArchiveServiceTest {
+
+    private static final int RETENTION_IN_DAYS = 30;
+
+    @Mock
+    private NotificationArchiveRepository archiveRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void should_archive_in_batches_until_batch_is_not_full() {
+        // given
+        given(archiveRepository.archiveBatch(RETENTION_IN_DAYS, 0, 2)).willReturn(new ArchivedBatch(2, 12));
+        given(archiveRepository.archiveBatch(RETENTION_IN_DAYS, 12, 2)).willReturn(new ArchivedBatch(1, 20));
+
+        // when
+        int archived = new NotificationArchiveService(archiveRepository, meterRegistry, RETENTION_IN_DAYS, 2, 10, 0)
+            .archiveNotifications();
+
+        // then
+        assertThat(archived).isEqualTo(3);
+        assertThat(meterRegistry.counter("notifications.archived").count()).isEqualTo(3);
+        verify(archiveRepository, times(2)).archiveBatch(eq(RETENTION_IN_DAYS), anyLong(), eq(2));
+    }
+
+    @Test
+    void should_stop_after_max_batches_per_run() {
+        // given
+        given(archiveRepository.archiveBatch(eq(RETENTION_IN_DAYS), anyLong(), eq(1)))
+            .willReturn(new ArchivedBatch(1, 5));
+
+        // when
+        int archived = new NotificationArchiveService(archiveRepository, meterRegistry, RETENTION_IN_DAYS, 1, 3, 0)
+            .archiveNotifications();
+
+        // then
+        assertThat(archived).isEqualTo(3);
+        verify(archiveRepository, times(3)).archiveBatch(eq(RETENTION_IN_DAYS), anyLong(), eq(1));
+    }
+}
@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.notificationservice.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.notificationservice.data.Notification;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationRepository;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationStatus;
+import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCoalescerTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-15T10:00:00Z");
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Test
+    void should_send_oldest_notification_and_attach_equivalents_to_it() {
+        // given
+        var coalescer = new NotificationCoalescer(notificationRepository, true, Duration.ofMinutes(10));
+        var newer = notification(1L, "zip1", "primary", NOW.plusSeconds(60));
+        var oldest = notification(2L, "zip1", "primary", NOW);
+        var other = notification(3L, "zip2", "primary", NOW);
+        var notFetched = notification(4L, "zip1", "primary", NOW.plusSeconds(120));
+        given(notificationRepository.findPendingByFingerprints(any()))
+            .willReturn(List.of(newer, oldest, other, notFetched));
+
+        // when
+        var coalesced = coalescer.coalesce(List.of(newer, oldest, other));
+
+        // then
+        assertThat(coalesced.toSend).containsExactly(oldest, other);
+        assertThat(coalesced.equivalentsOf(oldest)).containsExactly(newer, notFetched);
+        assertThat(coalesced.equivalentsOf(other)).isEmpty();
+    }
+
+    @Test
+    void should_not_coalesce_notifications_outside_of_window_or_of_other_client() {
+        // given
+        var coalescer = new NotificationCoalescer(notificationRepository, true, Duration.ofMinutes(10));
+        var first = notification(1L, "zip1", "primary", NOW);
+        var later = notification(2L, "zip1", "primary", NOW.plus(Duration.ofMinutes(11)));
+        var secondary = notification(3L, "zip1", "secondary", NOW.plusSeconds(60));
+        given(notificationRepository.findPendingByFingerprints(any())).willReturn(List.of(first, later, secondary));
+
+        // when
+        var coalesced = coalescer.coalesce(List.of(first, later, secondary));
+
+        // then
+        assertThat(coalesced.toSend).containsExactly(first, later, secondary);
+        assertThat(coalesced.equivalentsOf(first)).isEmpty();
+    }
+
+    @Test
+    void should_send_all_notifications_when_disabled() {
+        // given
+        var coalescer = new NotificationCoalescer(notificationRepository, false, Duration.ofMinutes(10));
+        var first = notification(1L, "zip1", "primary", NOW);
+        var second = notification(2L, "zip1", "primary", NOW);
+
+        // when
+        var coalesced = coalescer.coalesce(List.of(first, second));
+
+        // then
+        assertThat(coalesced.toSend).containsExactly(first, second);
+        assertThat(coalesced.equivalentsOf(first)).isEmpty();
+        verifyNoInteractions(notificationRepository);
+    }
+
+    private static Notification notification(long id, String zipFileName, String client, Instant createdAt) {
+        return new Notification(
+            id,
+            "54321",
+            zipFileName,
+            "po_box",
+            "bulkscan",
+            "service",
+            "DCN",
+            ErrorCode.ERR_METAFILE_INVALID,
+            "invalid metafile",
+            createdAt,
+            null,
+            NotificationStatus.PENDING,
+            "messageId" + id,
+            client
+        );
+    }
+}
@@ -1,6 +1,8 @@
 package uk.gov.hmcts.reform.notificationservice.service;
 
 import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,6 +12,7 @@ import uk.gov.hmcts.reform.notificationservice.config.SecondaryClientJurisdictio
 import uk.gov.hmcts.reform.notificationservice.data.NewNotification;
 import uk.gov.hmcts.reform.notificationservice.data.NotificationRepository;
 import uk.gov.hmcts.reform.notificationservice.exception.InvalidMessageException;
+import uk.gov.hmcts.reform.notificationservice.metrics.NotificationMetrics;
 import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
 import uk.gov.hmcts.reform.notificationservice.model.in.NotificationMsg;
 
@@ -39,7 +42,9 @@ class NotificationMessageHandlerTest {
         notificationMessageHandler =
             new NotificationMessageHandler(notificationMessageMapper,
                                            notificationRepository,
-                                           secondaryClientJurisdictionsConfig);
+                                           secondaryClientJurisdictionsConfig,
+                                           new NotificationMetrics(new SimpleMeterRegistry()),
+                                           ObservationRegistry.NOOP);
     }
 
     @Test
@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import uk.gov.hmcts.reform.notificationservice.exception.InvalidMessageException;
 import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
 import uk.gov.hmcts.reform.notificationservice.model.in.NotificationMsg;
@@ -51,6 +53,33 @@ class NotificationMessageParserTest {
         assertThat(notificationMessage).usingRecursiveComparison().isEqualTo(expected);
     }
 
+    @Test
+    void should_return_valid_notificationMessage_when_jms_message_is_valid() throws JSONException {
+        NotificationMsg notificationMessage =
+            notificationMsgParser.parse(
+                notificationMessageAsJsonString(
+                    "fileName.zip",
+                    "divorce",
+                    "pobox",
+                    "divorce",
+                    "1234567890123456",
+                    ErrorCode.ERR_FILE_LIMIT_EXCEEDED,
+                    "size too big",
+                    "orchestrator"
+                )
+            );
+
+        assertThat(notificationMessage.zipFileName).isEqualTo("fileName.zip");
+        assertThat(notificationMessage.errorCode).isEqualTo(ErrorCode.ERR_FILE_LIMIT_EXCEEDED);
+        assertThat(notificationMessage.service).isEqualTo("orchestrator");
+    }
+
+    @Test
+    void should_throw_invalidMessageException_when_jms_message_is_invalid() {
+        assertThatThrownBy(() -> notificationMsgParser.parse("parse exception"))
+            .isInstanceOf(InvalidMessageException.class);
+    }
+
     @Test
     void should_throw_invalidMessageException_when_queue_message_is_invalid() {
         BinaryData messageBody = BinaryData.fromBytes("parse exception".getBytes());
@@ -59,6 +88,90 @@ class NotificationMessageParserTest {
                 .isInstanceOf(InvalidMessageException.class);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+        // missing required field
+        "{\"zip_file_name\": \"a.zip\", \"error_code\": \"ERR_AV_FAILED\", \"error_description\": \"d\"}",
+        // null required field
+        "{\"zip_file_name\": null, \"error_code\": \"ERR_AV_FAILED\", \"error_description\": \"d\", "
+            + "\"service\": \"s\"}",
+        // unknown error code
+        "{\"zip_file_name\": \"a.zip\", \"error_code\": \"ERR_UNKNOWN\", \"error_description\": \"d\", "
+            + "\"service\": \"s\"}",
+        // not a string
+        "{\"zip_file_name\": {\"name\": \"a.zip\"}, \"error_code\": \"ERR_AV_FAILED\", "
+            + "\"error_description\": \"d\", \"service\": \"s\"}",
+        // duplicate field
+        "{\"zip_file_name\": \"a.zip\", \"zip_file_name\": \"b.zip\", \"error_code\": \"ERR_AV_FAILED\", "
+            + "\"error_description\": \"d\", \"service\": \"s\"}",
+        // trailing content
+        "{\"zip_file_name\": \"a.zip\", \"error_code\": \"ERR_AV_FAILED\", \"error_description\": \"d\", "
+            + "\"service\": \"s\"} {}",
+        // not an object
+        "[\"a.zip\"]"
+    })
+    void should_throw_invalidMessageException_when_queue_message_does_not_match_schema(String message) {
+        assertThatThrownBy(() -> notificationMsgParser.parse(BinaryData.fromString(message)))
+            .isInstanceOf(InvalidMessageException.class);
+    }
+
+    @Test
+    void should_throw_invalidMessageException_when_field_is_too_long() throws JSONException {
+        String message = notificationMessageAsJsonString(
+            "a".repeat(256),
+            null,
+            null,
+            null,
+            null,
+            ErrorCode.ERR_AV_FAILED,
+            "d",
+            "s"
+        );
+
+        assertThatThrownBy(() -> notificationMsgParser.parse(BinaryData.fromString(message)))
+            .isInstanceOf(InvalidMessageException.class)
+            .hasMessageContaining("zip_file_name");
+    }
+
+    @Test
+    void should_accept_long_jurisdiction_and_error_description() throws JSONException {
+        String message = notificationMessageAsJsonString(
+            "a.zip",
+            "j".repeat(1_000),
+            null,
+            null,
+            null,
+            ErrorCode.ERR_AV_FAILED,
+            "d".repeat(32 * 1024),
+            "s"
+        );
+
+        NotificationMsg notificationMessage = notificationMsgParser.parse(BinaryData.fromString(message));
+
+        assertThat(notificationMessage.jurisdiction).hasSize(1_000);
+        assertThat(notificationMessage.errorDescription).hasSize(32 * 1024);
+    }
+
+    @Test
+    void should_throw_invalidMessageException_when_queue_message_is_too_big() {
+        byte[] message = new byte[NotificationMessageParser.MAX_MESSAGE_SIZE + 1];
+
+        assertThatThrownBy(() -> notificationMsgParser.parse(BinaryData.fromBytes(message)))
+            .isInstanceOf(InvalidMessageException.class)
+            .hasMessageContaining("exceeds the limit");
+    }
+
+    @Test
+    void should_ignore_unknown_fields() {
+        NotificationMsg notificationMessage = notificationMsgParser.parse(BinaryData.fromString(
+            "{\"zip_file_name\": \"a.zip\", \"error_code\": \"ERR_AV_FAILED\", \"error_description\": \"d\", "
+                + "\"service\": \"s\", \"extra\": {\"nested\": [1, 2]}}"
+        ));
+
+        assertThat(notificationMessage.zipFileName).isEqualTo("a.zip");
+        assertThat(notificationMessage.errorCode).isEqualTo(ErrorCode.ERR_AV_FAILED);
+    }
+
     @Test
     void should_throw_InvalidMessageException_when_queue_message_is_null() {
         BinaryData nullBinaryData = BinaryData.fromObject((new Object()));
@@ -3,28 +3,38 @@ package uk.gov.hmcts.reform.notificationservice.service;
 import com.azure.core.util.BinaryData;
 import com.azure.messaging.servicebus.ServiceBusErrorSource;
 import com.azure.messaging.servicebus.ServiceBusException;
+import com.azure.messaging.servicebus.ServiceBusFailureReason;
 import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
 import com.azure.messaging.servicebus.ServiceBusReceivedMessageContext;
 import com.azure.messaging.servicebus.models.DeadLetterOptions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
 import uk.gov.hmcts.reform.notificationservice.exception.DuplicateMessageIdException;
 import uk.gov.hmcts.reform.notificationservice.exception.InvalidMessageException;
+import uk.gov.hmcts.reform.notificationservice.metrics.NotificationMetrics;
 import uk.gov.hmcts.reform.notificationservice.model.in.NotificationMsg;
+import uk.gov.hmcts.reform.notificationservice.util.LoggingContext;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -33,6 +43,8 @@ class NotificationMessageProcessorTest {
 
     private NotificationMessageProcessor notificationMessageProcessor;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Mock
     private ServiceBusReceivedMessageContext messageContext;
     @Mock
@@ -52,7 +64,10 @@ class NotificationMessageProcessorTest {
         notificationMessageProcessor = new NotificationMessageProcessor(
             notificationMessageHandler,
             notificationMessageParser,
-            5
+            5,
+            new NotificationMetrics(meterRegistry),
+            ObservationRegistry.NOOP,
+            Duration.ZERO
         );
     }
 
@@ -93,6 +108,136 @@ class NotificationMessageProcessorTest {
         verify(notificationMessageHandler).handleNotificationMessage(notificationMsg, messageId);
     }
 
+    @Test
+    void should_clear_logging_context_once_message_is_processed() {
+        // given
+        String messageId = mockQueueMessageAndParse();
+        willAnswer(invocation -> {
+            assertThat(MDC.get(LoggingContext.MESSAGE_ID)).isEqualTo(messageId);
+            MDC.put(LoggingContext.NOTIFICATION_ID, "1");
+            return null;
+        }).given(notificationMessageHandler).handleNotificationMessage(notificationMsg, messageId);
+
+        // when
+        notificationMessageProcessor.processNextMessage(messageContext);
+
+        // then
+        verify(messageContext).complete();
+        assertThat(MDC.get(LoggingContext.MESSAGE_ID)).isNull();
+        assertThat(MDC.get(LoggingContext.NOTIFICATION_ID)).isNull();
+    }
+
+    @Test
+    void should_count_message_as_in_flight_while_it_is_processed() {
+        // given
+        String messageId = mockQueueMessageAndParse();
+        willAnswer(invocation -> {
+            assertThat(notificationMessageProcessor.getInFlightMessages()).isEqualTo(1);
+            return null;
+        }).given(notificationMessageHandler).handleNotificationMessage(notificationMsg, messageId);
+
+        // when
+        notificationMessageProcessor.processNextMessage(messageContext);
+
+        // then
+        verify(messageContext).complete();
+        assertThat(notificationMessageProcessor.getInFlightMessages()).isZero();
+    }
+
+    @Test
+    void should_not_process_message_when_its_lock_has_already_expired() {
+        // given
+        given(messageContext.getMessage()).willReturn(message);
+        given(message.getMessageId()).willReturn(UUID.randomUUID().toString());
+        given(message.getLockedUntil()).willReturn(OffsetDateTime.now().minusSeconds(5));
+
+        // when
+        notificationMessageProcessor.processNextMessage(messageContext);
+
+        // then
+        verifyNoMoreInteractions(notificationMessageParser);
+        verifyNoMoreInteractions(notificationMessageHandler);
+        verify(messageContext, never()).complete();
+        assertThat(lockLostCount("before_processing")).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_store_message_when_its_lock_expired_while_it_was_parsed() {
+        // given
+        String messageId = mockQueueMessageAndParse();
+        given(notificationMessageParser.parse(messageBody)).willAnswer(invocation -> {
+            given(message.getLockedUntil()).willReturn(OffsetDateTime.now().minusSeconds(1));
+            return notificationMsg;
+        });
+
+        // when
+        notificationMessageProcessor.processNextMessage(messageContext);
+
+        // then
+        verify(notificationMessageHandler, never()).handleNotificationMessage(notificationMsg, messageId);
+        verify(messageContext, never()).complete();
+        assertThat(lockLostCount("before_insert")).isEqualTo(1);
+    }
+
+    @Test
+    void should_store_message_when_processing_runs_past_initial_lock_while_lock_is_renewed() {
+        // given
+        var renewingProcessor = new NotificationMessageProcessor(
+            notificationMessageHandler,
+            notificationMessageParser,
+            5,
+            new NotificationMetrics(meterRegistry),
+            ObservationRegistry.NOOP,
+            Duration.ofMinutes(5)
+        );
+        String messageId = mockQueueMessageAndParse();
+        // lockedUntil of the received message keeps the expiry from when it was received
+        given(notificationMessageParser.parse(messageBody)).willAnswer(invocation -> {
+            given(message.getLockedUntil()).willReturn(OffsetDateTime.now().minusSeconds(1));
+            return notificationMsg;
+        });
+
+        // when
+        renewingProcessor.processNextMessage(messageContext);
+
+        // then
+        verify(notificationMessageHandler).handleNotificationMessage(notificationMsg, messageId);
+        verify(messageContext).complete();
+        assertThat(meterRegistry.find("notifications.message.lock_lost").counter()).isNull();
+    }
+
+    @Test
+    void should_complete_redelivered_message_without_storing_it_again_when_it_is_already_stored() {
+        // given
+        String messageId = mockQueueMessageAndParse();
+        given(message.getDeliveryCount()).willReturn(1L);
+        given(notificationMessageHandler.isStored(messageId)).willReturn(true);
+
+        // when
+        notificationMessageProcessor.processNextMessage(messageContext);
+
+        // then
+        verify(notificationMessageHandler, never()).handleNotificationMessage(notificationMsg, messageId);
+        verify(messageContext).complete();
+        verify(messageContext, never()).deadLetter(any(DeadLetterOptions.class));
+    }
+
+    @Test
+    void should_count_lock_lost_when_message_cannot_be_completed() {
+        // given
+        String messageId = mockQueueMessageAndParse();
+        ServiceBusException lockLost = mock(ServiceBusException.class);
+        given(lockLost.getReason()).willReturn(ServiceBusFailureReason.MESSAGE_LOCK_LOST);
+        willThrow(lockLost).given(messageContext).complete();
+
+        // when
+        notificationMessageProcessor.processNextMessage(messageContext);
+
+        // then
+        verify(notificationMessageHandler).handleNotificationMessage(notificationMsg, messageId);
+        assertThat(lockLostCount("settlement")).isEqualTo(1);
+    }
+
     @Test
     void should_complete_the_message_when_processing_is_successful() {
         // given
@@ -258,10 +403,14 @@ class NotificationMessageProcessorTest {
         verify(messageContext).complete();
     }
 
+    private double lockLostCount(String stage) {
+        return meterRegistry.get("notifications.message.lock_lost").tag("stage", stage).counter().count();
+    }
+
     private void mockMessageDetails(String messageId) {
         given(message.getMessageId()).willReturn(messageId);
-        given(message.getLockedUntil()).willReturn(OffsetDateTime.now());
-        given(message.getExpiresAt()).willReturn(OffsetDateTime.now());
+        given(message.getLockedUntil()).willReturn(OffsetDateTime.now().plusMinutes(1));
+        given(message.getExpiresAt()).willReturn(OffsetDateTime.now().plusDays(1));
 
     }
 
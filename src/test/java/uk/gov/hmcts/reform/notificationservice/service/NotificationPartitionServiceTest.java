@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.notificationservice.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationPartitionRepository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPartitionServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-05-15T03:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private NotificationPartitionRepository partitionRepository;
+
+    @Test
+    void should_create_partitions_for_current_and_following_months() {
+        // when
+        new NotificationPartitionService(partitionRepository, 2, 0).maintainPartitions(CLOCK);
+
+        // then
+        verify(partitionRepository).createPartition(YearMonth.of(2024, 5));
+        verify(partitionRepository).createPartition(YearMonth.of(2024, 6));
+        verify(partitionRepository).createPartition(YearMonth.of(2024, 7));
+        verify(partitionRepository, never()).detachPartition(any());
+        verifyNoMoreInteractions(partitionRepository);
+    }
+
+    @Test
+    void should_detach_partitions_older_than_configured_months() {
+        // given
+        given(partitionRepository.findAttachedPartitions()).willReturn(List.of(
+            YearMonth.of(2024, 1),
+            YearMonth.of(2024, 2),
+            YearMonth.of(2024, 3),
+            YearMonth.of(2024, 5)
+        ));
+
+        // when
+        new NotificationPartitionService(partitionRepository, 0, 2).maintainPartitions(CLOCK);
+
+        // then
+        verify(partitionRepository).createPartition(YearMonth.of(2024, 5));
+        verify(partitionRepository).detachPartition(YearMonth.of(2024, 1));
+        verify(partitionRepository).detachPartition(YearMonth.of(2024, 2));
+        verify(partitionRepository, never()).detachPartition(YearMonth.of(2024, 3));
+    }
+}
@@ -1,6 +1,8 @@
 package uk.gov.hmcts.reform.notificationservice.service;
 
 import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -25,14 +27,25 @@ import uk.gov.hmcts.reform.notificationservice.data.NotificationRepository;
 import uk.gov.hmcts.reform.notificationservice.data.NotificationStatus;
 import uk.gov.hmcts.reform.notificationservice.exception.FailedDependencyException;
 import uk.gov.hmcts.reform.notificationservice.exception.NotFoundException;
+import uk.gov.hmcts.reform.notificationservice.metrics.NotificationMetrics;
 import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+import uk.gov.hmcts.reform.notificationservice.model.in.NotificationSearchRequest;
+import uk.gov.hmcts.reform.notificationservice.model.in.NotifyBatchItem;
+import uk.gov.hmcts.reform.notificationservice.model.in.NotifyBatchRequest;
 import uk.gov.hmcts.reform.notificationservice.model.in.NotifyRequest;
 import uk.gov.hmcts.reform.notificationservice.model.out.NotificationInfo;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -40,9 +53,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -56,6 +72,9 @@ import static org.mockito.Mockito.when;
 @ContextConfiguration(classes = SecondaryClientJurisdictionsConfig.class)
 class NotificationServiceTest {
 
+    private static final Clock CLOCK = Clock.systemUTC();
+    private static final Instant CREATED_AT = Instant.parse("2024-05-15T10:00:00.123456Z");
+
     @Mock
     private NotificationRepository notificationRepository;
 
@@ -74,22 +93,41 @@ class NotificationServiceTest {
     @Captor
     ArgumentCaptor<Long> idCaptor;
 
+    @Captor
+    ArgumentCaptor<List<NewNotification>> newNotificationsCaptor;
+
+    private final SupplierRateLimiter rateLimiter = new SupplierRateLimiter(100, 1, 1, 100, Duration.ofSeconds(30));
+
+    private final DispatchLanes dispatchLanes = new DispatchLanes("", 200);
+
+    private NotificationCoalescer coalescer;
+
     private NotificationService notificationService;
 
     @BeforeEach
     void setUp() {
+        coalescer = new NotificationCoalescer(notificationRepository, false, Duration.ofMinutes(10));
         when(secondaryClientJurisdictionsConfig.getJurisdictionList()).thenReturn(new String[] { "civil","cat" });
         notificationService = new NotificationService(notificationRepository,
                                                       notificationClient,
                                                       errorNotificationClientSecondary,
-                                                      secondaryClientJurisdictionsConfig);
+                                                      secondaryClientJurisdictionsConfig,
+                                                      new NotificationMetrics(new SimpleMeterRegistry()),
+                                                      ObservationRegistry.NOOP,
+                                                      rateLimiter,
+                                                      dispatchLanes,
+                                                      coalescer,
+                                                      false,
+                                                      50,
+                                                      Duration.ofHours(1),
+                                                      Duration.ofMinutes(5));
     }
 
     @Test
     void should_call_repository_for_pending_notifications_to_begin_the_process() {
-        notificationService.processPendingNotifications();
+        notificationService.processPendingNotifications(CLOCK);
 
-        verify(notificationRepository, times(1)).findPending();
+        verify(notificationRepository, times(1)).findPending(200);
         verifyNoInteractions(notificationClient);
     }
 
@@ -98,14 +136,14 @@ class NotificationServiceTest {
         // given
         var notification = getSampleNotification("primary");
         var notificationId = "notification ID";
-        given(notificationRepository.findPending()).willReturn(singletonList(notification));
+        given(notificationRepository.findPending(anyInt())).willReturn(singletonList(notification));
         given(notificationClient.notify(any())).willReturn(new ErrorNotificationResponse(notificationId));
 
         // when
-        notificationService.processPendingNotifications();
+        notificationService.processPendingNotifications(CLOCK);
 
         // then
-        verify(notificationRepository, times(1)).markAsSent(notification.id, notificationId);
+        verify(notificationRepository, times(1)).markAsSent(notification.id, CREATED_AT, notificationId);
     }
 
     @ParameterizedTest
@@ -115,14 +153,14 @@ class NotificationServiceTest {
     ) {
         // given
         var notification = getSampleNotification("primary");
-        given(notificationRepository.findPending()).willReturn(singletonList(notification));
+        given(notificationRepository.findPending(anyInt())).willReturn(singletonList(notification));
         willThrow(instantiateFeignException(exceptionClass)).given(notificationClient).notify(any());
 
         // when
-        notificationService.processPendingNotifications();
+        notificationService.processPendingNotifications(CLOCK);
 
         // then
-        verify(notificationRepository, times(1)).markAsFailure(notification.id);
+        verify(notificationRepository, times(1)).markAsFailure(notification.id, CREATED_AT);
     }
 
     @ParameterizedTest
@@ -139,27 +177,315 @@ class NotificationServiceTest {
         var exception = exceptionClass.equals(FeignException.class)
             ? getDefaultFeignException()
             : instantiateFeignException(exceptionClass);
-        given(notificationRepository.findPending()).willReturn(singletonList(notification));
+        given(notificationRepository.findPending(anyInt())).willReturn(singletonList(notification));
         willThrow(exception).given(notificationClient).notify(any());
 
         // when
-        notificationService.processPendingNotifications();
+        notificationService.processPendingNotifications(CLOCK);
 
         // then
-        verify(notificationRepository, never()).markAsFailure(notification.id);
+        verify(notificationRepository, never()).markAsFailure(eq(notification.id), any());
     }
 
     @Test
     void should_leave_notification_as_is_when_unexpected_exception_is_thrown_and_continue() {
         // given
-        given(notificationRepository.findPending()).willReturn(singletonList(getSampleNotification("primary")));
+        given(notificationRepository.findPending(anyInt())).willReturn(singletonList(getSampleNotification("primary")));
         willThrow(new RuntimeException()).given(notificationClient).notify(any());
 
         // when
-        notificationService.processPendingNotifications();
+        notificationService.processPendingNotifications(CLOCK);
+
+        // then
+        verify(notificationRepository, never()).markAsFailure(anyLong(), any());
+    }
+
+    @Test
+    void should_take_turns_between_services_when_sending_pending_notifications() {
+        // given
+        given(notificationRepository.findPending(anyInt())).willReturn(List.of(
+            getSampleNotification(1L, "zip1"),
+            getSampleNotification(2L, "zip2"),
+            getSampleNotification(3L, "zip3"),
+            getSampleNotification(4L, "zip4", "small_service")
+        ));
+        given(notificationClient.notify(any())).willReturn(new ErrorNotificationResponse("id"));
+
+        // when
+        notificationService.processPendingNotifications(CLOCK);
+
+        // then
+        ArgumentCaptor<ErrorNotificationRequest> requestCaptor =
+            ArgumentCaptor.forClass(ErrorNotificationRequest.class);
+        verify(notificationClient, times(4)).notify(requestCaptor.capture());
+        assertThat(requestCaptor.getAllValues())
+            .extracting(request -> request.zipFileName)
+            .containsExactly("zip1", "zip4", "zip2", "zip3");
+    }
+
+    @Test
+    void should_leave_notifications_for_next_run_when_waiting_for_permit_would_exceed_run_budget() {
+        // given one call per 1000 seconds, well over the 5 minutes budget of the run
+        var slowRateLimiter = new SupplierRateLimiter(0.001, 0.001, 0, 1, Duration.ofSeconds(30));
+        var service = new NotificationService(
+            notificationRepository,
+            notificationClient,
+            errorNotificationClientSecondary,
+            secondaryClientJurisdictionsConfig,
+            new NotificationMetrics(new SimpleMeterRegistry()),
+            ObservationRegistry.NOOP,
+            slowRateLimiter,
+            dispatchLanes,
+            coalescer,
+            false,
+            50,
+            Duration.ofHours(1),
+            Duration.ofMinutes(5)
+        );
+        given(notificationRepository.findPending(anyInt())).willReturn(List.of(
+            getSampleNotification(1L, "zip1"),
+            getSampleNotification(2L, "zip2")
+        ));
+        given(notificationClient.notify(any())).willReturn(new ErrorNotificationResponse("id1"));
+
+        // when
+        service.processPendingNotifications(CLOCK);
+
+        // then
+        verify(notificationClient, times(1)).notify(any());
+        verify(notificationRepository).markAsSent(1L, CREATED_AT, "id1");
+        verify(notificationRepository, never()).markAsSent(eq(2L), any(), anyString());
+        verify(notificationRepository, never()).deferUntil(anyLong(), any(), any());
+    }
+
+    @Test
+    void should_defer_notifications_of_client_until_retry_after_when_supplier_throttles() {
+        // given
+        var exception = mock(FeignException.TooManyRequests.class);
+        given(exception.responseHeaders()).willReturn(Map.of("Retry-After", List.of("120")));
+        given(notificationRepository.findPending(anyInt())).willReturn(List.of(
+            getSampleNotification(1L, "zip1"),
+            getSampleNotification(2L, "zip2")
+        ));
+        willThrow(exception).given(notificationClient).notify(any());
+        Instant before = Instant.now();
+
+        // when
+        notificationService.processPendingNotifications(CLOCK);
+
+        // then
+        // second notification is not sent, the client is paused after the first one
+        verify(notificationClient, times(1)).notify(any());
+        ArgumentCaptor<Instant> retryAfterCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(notificationRepository).deferUntil(eq(1L), eq(CREATED_AT), retryAfterCaptor.capture());
+        verify(notificationRepository).deferUntil(2L, CREATED_AT, retryAfterCaptor.getValue());
+        assertThat(retryAfterCaptor.getValue()).isBetween(before.plusSeconds(119), before.plusSeconds(121));
+        assertThat(rateLimiter.permitsPerSecond("primary", CLOCK)).isEqualTo(50);
+        verify(notificationRepository, never()).markAsFailure(anyLong(), any());
+    }
+
+    @Test
+    void should_defer_notification_when_supplier_is_unavailable_with_retry_after_date() {
+        // given
+        var exception = mock(FeignException.ServiceUnavailable.class);
+        var retryAfter = Instant.now().plusSeconds(600).truncatedTo(ChronoUnit.SECONDS);
+        given(exception.responseHeaders()).willReturn(Map.of(
+            "Retry-After",
+            List.of(DateTimeFormatter.RFC_1123_DATE_TIME.format(retryAfter.atZone(ZoneOffset.UTC)))
+        ));
+        var notification = getSampleNotification("primary");
+        given(notificationRepository.findPending(anyInt())).willReturn(singletonList(notification));
+        willThrow(exception).given(notificationClient).notify(any());
+
+        // when
+        notificationService.processPendingNotifications(CLOCK);
 
         // then
-        verify(notificationRepository, never()).markAsFailure(anyLong());
+        ArgumentCaptor<Instant> retryAfterCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(notificationRepository).deferUntil(eq(notification.id), eq(CREATED_AT), retryAfterCaptor.capture());
+        assertThat(retryAfterCaptor.getValue()).isBetween(retryAfter.minusSeconds(1), retryAfter.plusSeconds(1));
+    }
+
+    @Test
+    void should_send_equivalent_notifications_once_when_coalescing_is_enabled() {
+        // given
+        var service = coalescingNotificationService();
+        var leader = getSampleNotification(1L, "zip1");
+        var equivalent = getSampleNotification(2L, "zip1");
+        var other = getSampleNotification(3L, "zip2");
+        var notFetched = getSampleNotification(4L, "zip1");
+        given(notificationRepository.findPending(anyInt())).willReturn(List.of(leader, equivalent, other));
+        given(notificationRepository.findPendingByFingerprints(any()))
+            .willReturn(List.of(leader, equivalent, other, notFetched));
+        given(notificationClient.notify(any())).willReturn(
+            new ErrorNotificationResponse("id1"),
+            new ErrorNotificationResponse("id3")
+        );
+
+        // when
+        service.processPendingNotifications(CLOCK);
+
+        // then
+        verify(notificationClient, times(2)).notify(any());
+        verify(notificationRepository).markAsSent(1L, CREATED_AT, "id1");
+        verify(notificationRepository).markAsSent(2L, CREATED_AT, "id1");
+        verify(notificationRepository).markAsSent(4L, CREATED_AT, "id1");
+        verify(notificationRepository).markAsSent(3L, CREATED_AT, "id3");
+    }
+
+    @Test
+    void should_mark_equivalent_notifications_as_failed_when_supplier_rejects_the_sent_one() {
+        // given
+        var service = coalescingNotificationService();
+        var leader = getSampleNotification(1L, "zip1");
+        var equivalent = getSampleNotification(2L, "zip1");
+        given(notificationRepository.findPending(anyInt())).willReturn(List.of(leader, equivalent));
+        given(notificationRepository.findPendingByFingerprints(any())).willReturn(List.of(leader, equivalent));
+        willThrow(instantiateFeignException(FeignException.BadRequest.class))
+            .given(notificationClient).notify(any());
+
+        // when
+        service.processPendingNotifications(CLOCK);
+
+        // then
+        verify(notificationClient, times(1)).notify(any());
+        verify(notificationRepository).markAsFailure(1L, CREATED_AT);
+        verify(notificationRepository).markAsFailure(2L, CREATED_AT);
+        verify(notificationRepository, never()).markAsSent(anyLong(), any(), anyString());
+    }
+
+    @Test
+    void should_send_pending_notifications_in_batches_per_client_when_batching_is_enabled() {
+        // given
+        var service = batchingNotificationService(2);
+        var secondary = getSampleNotification("secondary");
+        given(notificationRepository.findPending(anyInt())).willReturn(List.of(
+            getSampleNotification(1L, "zip1"),
+            secondary,
+            getSampleNotification(2L, "zip2"),
+            getSampleNotification(3L, "zip3")
+        ));
+        given(notificationClient.notifyBatch(any())).willReturn(
+            List.of(new ErrorNotificationResponse("id1"), new ErrorNotificationResponse("id2")),
+            List.of(new ErrorNotificationResponse("id3"))
+        );
+        given(errorNotificationClientSecondary.notify(any())).willReturn(new ErrorNotificationResponse("id4"));
+
+        // when
+        service.processPendingNotifications(CLOCK);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ErrorNotificationRequest>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(notificationClient, times(2)).notifyBatch(batchCaptor.capture());
+        assertThat(batchCaptor.getAllValues())
+            .extracting(batch -> batch.stream().map(request -> request.zipFileName).toList())
+            .containsExactly(List.of("zip1", "zip2"), List.of("zip3"));
+        verify(notificationClient, never()).notify(any());
+        verify(notificationRepository).markAsSent(1L, CREATED_AT, "id1");
+        verify(notificationRepository).markAsSent(2L, CREATED_AT, "id2");
+        verify(notificationRepository).markAsSent(3L, CREATED_AT, "id3");
+        verify(notificationRepository).markAsSent(secondary.id, CREATED_AT, "id4");
+    }
+
+    @Test
+    void should_send_batch_notifications_one_by_one_when_supplier_rejects_the_batch() {
+        // given
+        var service = batchingNotificationService(50);
+        given(notificationRepository.findPending(anyInt())).willReturn(List.of(
+            getSampleNotification(1L, "zip1"),
+            getSampleNotification(2L, "zip2")
+        ));
+        willThrow(mock(FeignException.BadRequest.class)).given(notificationClient).notifyBatch(any());
+        given(notificationClient.notify(any()))
+            .willReturn(new ErrorNotificationResponse("id1"))
+            .willThrow(mock(FeignException.UnprocessableEntity.class));
+
+        // when
+        service.processPendingNotifications(CLOCK);
+
+        // then
+        verify(notificationClient, times(2)).notify(any());
+        verify(notificationRepository).markAsSent(1L, CREATED_AT, "id1");
+        verify(notificationRepository).markAsFailure(2L, CREATED_AT);
+    }
+
+    @Test
+    void should_remember_missing_batch_endpoint_and_send_one_by_one_on_next_run() {
+        // given
+        var service = batchingNotificationService(50);
+        given(notificationRepository.findPending(anyInt())).willReturn(List.of(
+            getSampleNotification(1L, "zip1"),
+            getSampleNotification(2L, "zip2")
+        ));
+        willThrow(mock(FeignException.NotFound.class)).given(notificationClient).notifyBatch(any());
+        given(notificationClient.notify(any())).willReturn(new ErrorNotificationResponse("id"));
+
+        // when
+        service.processPendingNotifications(CLOCK);
+        service.processPendingNotifications(CLOCK);
+
+        // then
+        verify(notificationClient, times(1)).notifyBatch(any());
+        verify(notificationClient, times(4)).notify(any());
+    }
+
+    @Test
+    void should_mark_batch_notifications_as_unconfirmed_when_supplier_returns_unexpected_number_of_responses() {
+        // given
+        var service = batchingNotificationService(50);
+        given(notificationRepository.findPending(anyInt())).willReturn(List.of(
+            getSampleNotification(1L, "zip1"),
+            getSampleNotification(2L, "zip2")
+        ));
+        given(notificationClient.notifyBatch(any())).willReturn(List.of(new ErrorNotificationResponse("id1")));
+
+        // when
+        service.processPendingNotifications(CLOCK);
+
+        // then
+        verify(notificationRepository).markAsUnconfirmed(1L, CREATED_AT);
+        verify(notificationRepository).markAsUnconfirmed(2L, CREATED_AT);
+        verify(notificationRepository, never()).markAsSent(anyLong(), any(), anyString());
+        verify(notificationRepository, never()).markAsFailure(anyLong(), any());
+    }
+
+    @Test
+    void should_mark_batch_notifications_as_unconfirmed_when_supplier_fails_with_server_error() {
+        // given
+        var service = batchingNotificationService(50);
+        given(notificationRepository.findPending(anyInt())).willReturn(List.of(
+            getSampleNotification(1L, "zip1"),
+            getSampleNotification(2L, "zip2")
+        ));
+        willThrow(mock(FeignException.InternalServerError.class)).given(notificationClient).notifyBatch(any());
+
+        // when
+        service.processPendingNotifications(CLOCK);
+
+        // then
+        verify(notificationRepository).markAsUnconfirmed(1L, CREATED_AT);
+        verify(notificationRepository).markAsUnconfirmed(2L, CREATED_AT);
+        verify(notificationClient, never()).notify(any());
+    }
+
+    @Test
+    void should_leave_batch_notifications_as_is_when_supplier_is_unavailable() {
+        // given
+        var service = batchingNotificationService(50);
+        given(notificationRepository.findPending(anyInt())).willReturn(List.of(
+            getSampleNotification(1L, "zip1"),
+            getSampleNotification(2L, "zip2")
+        ));
+        willThrow(mock(FeignException.ServiceUnavailable.class)).given(notificationClient).notifyBatch(any());
+
+        // when
+        service.processPendingNotifications(CLOCK);
+
+        // then
+        verify(notificationRepository, never()).markAsUnconfirmed(anyLong(), any());
+        verify(notificationRepository, never()).markAsSent(anyLong(), any(), anyString());
+        verify(notificationRepository, never()).markAsFailure(anyLong(), any());
     }
 
     @Test
@@ -371,8 +697,11 @@ class NotificationServiceTest {
 
         when(notificationRepository.save(any())).thenReturn(creatednotification);
         when(notificationClient.notify(any())).thenReturn(supplierResponse);
-        when(notificationRepository.updateNotificationStatusAsSent(creatednotification.id, String.valueOf(
-            creatednotification.confirmationId))).thenReturn(savedNotificationFromdb);
+        when(notificationRepository.updateNotificationStatusAsSent(
+            creatednotification.id,
+            CREATED_AT,
+            String.valueOf(creatednotification.confirmationId)
+        )).thenReturn(savedNotificationFromdb);
 
         assertThat(notificationService.saveNotificationMsg(notificationMsgFromMicroservice))
             .isInstanceOf(NotificationInfo.class)
@@ -395,8 +724,11 @@ class NotificationServiceTest {
 
         when(notificationRepository.save(newNotificationCaptor.capture())).thenReturn(savedNotification);
         when(errorNotificationClientSecondary.notify(any())).thenReturn(supplierResponse);
-        when(notificationRepository.updateNotificationStatusAsSent(statusUpdatednotification.id, String.valueOf(
-            statusUpdatednotification.confirmationId))).thenReturn(savedNotification);
+        when(notificationRepository.updateNotificationStatusAsSent(
+            statusUpdatednotification.id,
+            CREATED_AT,
+            String.valueOf(statusUpdatednotification.confirmationId)
+        )).thenReturn(savedNotification);
 
         assertThat(notificationService.saveNotificationMsg(notificationMsgFromMicroservice))
             .isInstanceOf(NotificationInfo.class)
@@ -404,7 +736,7 @@ class NotificationServiceTest {
             .contains("12345", "54321");
 
         verify(notificationClient, never()).notify(any());
-        verify(notificationRepository, never()).updateNotificationStatusAsFail(anyLong());
+        verify(notificationRepository, never()).updateNotificationStatusAsFail(anyLong(), any());
         assertThat(newNotificationCaptor.getValue())
             .extracting("client")
             .isEqualTo("secondary");
@@ -423,7 +755,7 @@ class NotificationServiceTest {
         when(notificationRepository.save(newNotificationCaptor.capture())).thenReturn(savedNotification);
         when(errorNotificationClientSecondary.notify(any(ErrorNotificationRequest.class))).thenThrow(
             mockbadrequestFeignException);
-        when(notificationRepository.updateNotificationStatusAsFail(savedNotification.id)).thenReturn(
+        when(notificationRepository.updateNotificationStatusAsFail(savedNotification.id, CREATED_AT)).thenReturn(
             updatedStatusNotification);
 
         assertThatThrownBy(() -> notificationService.saveNotificationMsg(notificationMsgFromMicroservice))
@@ -432,13 +764,13 @@ class NotificationServiceTest {
                 assertThat(e).extracting("notificationInfo")
                     .isInstanceOf(NotificationInfo.class)
                     .extracting("id", "confirmationId", "status")
-                    .contains("12345", "54321", "FAILED");
+                    .contains("12345", "54321", NotificationStatus.FAILED);
             })
             .hasMessageContaining("The service's client failed to make a request to an external endpoint: "
                                       + "Client received status code:");
 
-        verify(notificationRepository, never()).updateNotificationStatusAsSent(anyLong(), anyString());
-        verify(notificationRepository).updateNotificationStatusAsFail(idCaptor.capture());
+        verify(notificationRepository, never()).updateNotificationStatusAsSent(anyLong(), any(), anyString());
+        verify(notificationRepository).updateNotificationStatusAsFail(idCaptor.capture(), eq(CREATED_AT));
         assertThat(idCaptor.getValue())
             .isEqualTo(12345);
     }
@@ -455,8 +787,8 @@ class NotificationServiceTest {
         assertThatThrownBy(() -> notificationService.saveNotificationMsg(notificationMsgFromMicroservice))
             .hasMessage("unexpected");
 
-        verify(notificationRepository, never()).updateNotificationStatusAsSent(anyLong(), anyString());
-        verify(notificationRepository).updateNotificationStatusAsFail(idCaptor.capture());
+        verify(notificationRepository, never()).updateNotificationStatusAsSent(anyLong(), any(), anyString());
+        verify(notificationRepository).updateNotificationStatusAsFail(idCaptor.capture(), eq(CREATED_AT));
         assertThat(idCaptor.getValue())
             .isEqualTo(12345);
     }
@@ -489,6 +821,100 @@ class NotificationServiceTest {
         );
     }
 
+    @Test
+    void should_group_search_results_by_zip_file_name() {
+        // given
+        var searchRequest = new NotificationSearchRequest(List.of("a.zip", "b.zip"), null, List.of(3L));
+        willAnswer(invocation -> {
+            Consumer<Notification> consumer = invocation.getArgument(4);
+            consumer.accept(getSampleNotification(1L, "a.zip"));
+            consumer.accept(getSampleNotification(2L, "a.zip"));
+            consumer.accept(getSampleNotification(3L, "c.zip"));
+            return null;
+        }).given(notificationRepository)
+            .search(eq("service"), eq(List.of("a.zip", "b.zip")), eq(List.of()), eq(List.of(3L)), any());
+
+        // when
+        var response = notificationService.search(searchRequest, "service");
+
+        // then
+        assertThat(response.count).isEqualTo(3);
+        assertThat(response.zipFiles).containsOnlyKeys("a.zip", "c.zip");
+        assertThat(response.zipFiles.get("a.zip")).extracting(info -> info.id).containsExactly("1", "2");
+        assertThat(response.zipFiles.get("c.zip")).extracting(info -> info.id).containsExactly("3");
+    }
+
+    @Test
+    void should_insert_new_batch_items_and_return_existing_ones_for_known_idempotency_keys() {
+        // given
+        var batchRequest = new NotifyBatchRequest(List.of(
+            new NotifyBatchItem("key1", getSampleNotificationMsgRequest("civil")),
+            new NotifyBatchItem("key2", getSampleNotificationMsgRequest("probate"))
+        ));
+        given(notificationRepository.findByMessageIds(List.of("batch:service:key1", "batch:service:key2")))
+            .willReturn(List.of(getSampleNotification("secondary", "batch:service:key1", NotificationStatus.SENT)));
+        given(notificationRepository.insertAll(newNotificationsCaptor.capture()))
+            .willReturn(Map.of("batch:service:key2", 20L));
+
+        // when
+        var response = notificationService.saveNotificationBatch(batchRequest, "service");
+
+        // then
+        verify(notificationRepository).lockBatchSubmission("service");
+        assertThat(newNotificationsCaptor.getValue())
+            .extracting(n -> n.messageId, n -> n.client)
+            .containsExactly(tuple("batch:service:key2", "primary"));
+        assertThat(response.notifications)
+            .extracting(n -> n.idempotencyKey, n -> n.id, n -> n.status, n -> n.duplicate)
+            .containsExactly(
+                tuple("key1", "12345", NotificationStatus.SENT, true),
+                tuple("key2", "20", NotificationStatus.PENDING, false)
+            );
+        verifyNoInteractions(notificationClient, errorNotificationClientSecondary);
+    }
+
+    @Test
+    void should_not_insert_anything_when_all_batch_items_were_saved_before() {
+        // given
+        var batchRequest = new NotifyBatchRequest(
+            List.of(new NotifyBatchItem("key1", getSampleNotificationMsgRequest("civil")))
+        );
+        given(notificationRepository.findByMessageIds(List.of("batch:service:key1")))
+            .willReturn(List.of(getSampleNotification("secondary", "batch:service:key1", NotificationStatus.PENDING)));
+
+        // when
+        var response = notificationService.saveNotificationBatch(batchRequest, "service");
+
+        // then
+        verify(notificationRepository, never()).insertAll(any());
+        assertThat(response.notifications)
+            .extracting(n -> n.id, n -> n.duplicate)
+            .containsExactly(tuple("12345", true));
+    }
+
+    private Notification getSampleNotification(long id, String zipFileName) {
+        return getSampleNotification(id, zipFileName, "service");
+    }
+
+    private Notification getSampleNotification(long id, String zipFileName, String service) {
+        return new Notification(
+            id,
+            "54321",
+            zipFileName,
+            "po_box",
+            "bulkscan",
+            service,
+            "DCN",
+            ErrorCode.ERR_METAFILE_INVALID,
+            "invalid metafile",
+            CREATED_AT,
+            null,
+            NotificationStatus.SENT,
+            "messageId1",
+            "primary"
+        );
+    }
+
     private Notification getSampleNotification(String client) {
         return new Notification(
             12345,
@@ -500,7 +926,7 @@ class NotificationServiceTest {
             "DCN",
             ErrorCode.ERR_METAFILE_INVALID,
             "invalid metafile",
-            Instant.now(),
+            CREATED_AT,
             null,
             NotificationStatus.PENDING,
             "messageId1",
@@ -519,7 +945,7 @@ class NotificationServiceTest {
             "DCN",
             ErrorCode.ERR_METAFILE_INVALID,
             "invalid metafile",
-            Instant.now(),
+            CREATED_AT,
             null,
             status,
             messageId,
@@ -527,7 +953,43 @@ class NotificationServiceTest {
         );
     }
 
-    private FeignException instantiateFeignException(Class<FeignException> exceptionClass) {
+    private NotificationService batchingNotificationService(int maxBatchSize) {
+        return new NotificationService(
+            notificationRepository,
+            notificationClient,
+            errorNotificationClientSecondary,
+            secondaryClientJurisdictionsConfig,
+            new NotificationMetrics(new SimpleMeterRegistry()),
+            ObservationRegistry.NOOP,
+            rateLimiter,
+            dispatchLanes,
+            coalescer,
+            true,
+            maxBatchSize,
+            Duration.ofHours(1),
+            Duration.ofMinutes(5)
+        );
+    }
+
+    private NotificationService coalescingNotificationService() {
+        return new NotificationService(
+            notificationRepository,
+            notificationClient,
+            errorNotificationClientSecondary,
+            secondaryClientJurisdictionsConfig,
+            new NotificationMetrics(new SimpleMeterRegistry()),
+            ObservationRegistry.NOOP,
+            rateLimiter,
+            dispatchLanes,
+            new NotificationCoalescer(notificationRepository, true, Duration.ofMinutes(10)),
+            false,
+            50,
+            Duration.ofHours(1),
+            Duration.ofMinutes(5)
+        );
+    }
+
+        private FeignException instantiateFeignException(Class<FeignException> exceptionClass) {
         return mock(exceptionClass);
     }
 
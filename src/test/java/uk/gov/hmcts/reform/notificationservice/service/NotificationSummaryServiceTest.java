@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.notificationservice.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationStatus;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationSummary;
+import uk.gov.hmcts.reform.notificationservice.data.NotificationSummaryRepository;
+import uk.gov.hmcts.reform.notificationservice.model.common.ErrorCode;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationSummaryServiceTest {
+
+    @Mock
+    private NotificationSummaryRepository summaryRepository;
+
+    @Test
+    void should_refresh_configured_number_of_days_including_today() {
+        // given
+        Clock clock = Clock.fixed(Instant.parse("2024-05-15T10:00:00Z"), ZoneOffset.UTC);
+
+        // when
+        new NotificationSummaryService(summaryRepository, 3).refreshSummary(clock);
+
+        // then
+        verify(summaryRepository).refresh(LocalDate.of(2024, 5, 13));
+    }
+
+    @Test
+    void should_map_summary_and_calculate_total() {
+        // given
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        given(summaryRepository.find(date, date)).willReturn(List.of(
+            new NotificationSummary(date, "bulkscan", NotificationStatus.SENT, ErrorCode.ERR_AV_FAILED, "primary", 4),
+            new NotificationSummary(date, "bulkscan", NotificationStatus.FAILED, ErrorCode.ERR_AV_FAILED, "primary", 1)
+        ));
+
+        // when
+        var response = new NotificationSummaryService(summaryRepository, 3).getSummary(date, date);
+
+        // then
+        assertThat(response.total).isEqualTo(5);
+        assertThat(response.summary)
+            .extracting(info -> info.status)
+            .containsExactly("SENT", "FAILED");
+    }
+}
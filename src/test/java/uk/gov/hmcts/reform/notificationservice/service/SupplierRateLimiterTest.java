@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.notificationservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SupplierRateLimiterTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-15T10:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private final SupplierRateLimiter rateLimiter = new SupplierRateLimiter(10, 1, 2, 3, Duration.ofSeconds(30));
+
+    @Test
+    void should_let_burst_through_and_space_out_following_calls() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.reserve("primary", CLOCK)).isZero();
+        }
+
+        // then
+        assertThat(rateLimiter.reserve("primary", CLOCK)).isEqualTo(Duration.ofMillis(100));
+        assertThat(rateLimiter.reserve("primary", CLOCK)).isEqualTo(Duration.ofMillis(200));
+        // other client has its own bucket
+        assertThat(rateLimiter.reserve("secondary", CLOCK)).isZero();
+    }
+
+    @Test
+    void should_not_take_permit_when_wait_is_longer_than_allowed() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.reserve("primary", CLOCK);
+        }
+
+        // when
+        Duration tooLong = rateLimiter.reserve("primary", Duration.ofMillis(50), CLOCK);
+
+        // then
+        assertThat(tooLong).isEqualTo(Duration.ofMillis(100));
+        // permit was not taken, the wait did not grow
+        assertThat(rateLimiter.reserve("primary", Duration.ofMillis(100), CLOCK)).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void should_refill_tokens_over_time_up_to_burst() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.reserve("primary", CLOCK);
+        }
+
+        // when
+        var later = Clock.offset(CLOCK, Duration.ofSeconds(10));
+
+        // then
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.reserve("primary", later)).isZero();
+        }
+        assertThat(rateLimiter.reserve("primary", later)).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void should_halve_rate_and_pause_client_when_throttled() {
+        // when
+        Instant pausedUntil = rateLimiter.throttled("primary", Duration.ofSeconds(5), CLOCK);
+
+        // then
+        assertThat(pausedUntil).isEqualTo(NOW.plusSeconds(5));
+        assertThat(rateLimiter.pausedUntil("primary", CLOCK)).isEqualTo(NOW.plusSeconds(5));
+        assertThat(rateLimiter.reserve("primary", CLOCK)).isNull();
+        assertThat(rateLimiter.permitsPerSecond("primary", CLOCK)).isEqualTo(5);
+
+        // tokens are not saved up during the pause
+        var afterPause = Clock.offset(CLOCK, Duration.ofSeconds(5));
+        assertThat(rateLimiter.pausedUntil("primary", afterPause)).isNull();
+        assertThat(rateLimiter.reserve("primary", afterPause)).isEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    void should_use_default_retry_after_when_supplier_does_not_provide_one() {
+        // when
+        Instant pausedUntil = rateLimiter.throttled("primary", null, CLOCK);
+
+        // then
+        assertThat(pausedUntil).isEqualTo(NOW.plusSeconds(30));
+    }
+
+    @Test
+    void should_keep_rate_between_min_and_max() {
+        // when
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.throttled("primary", Duration.ZERO, CLOCK);
+        }
+
+        // then
+        assertThat(rateLimiter.permitsPerSecond("primary", CLOCK)).isEqualTo(1);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.accepted("primary", CLOCK);
+        }
+
+        // then
+        assertThat(rateLimiter.permitsPerSecond("primary", CLOCK)).isEqualTo(10);
+    }
+}
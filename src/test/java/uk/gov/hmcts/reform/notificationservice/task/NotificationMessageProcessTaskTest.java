@@ -2,17 +2,25 @@ package uk.gov.hmcts.reform.notificationservice.task;
 
 import com.azure.messaging.servicebus.ServiceBusProcessorClient;
 import io.github.netmikey.logunit.api.LogCapturer;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.RegisterExtension;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.notificationservice.service.NotificationMessageProcessor;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.slf4j.event.Level.ERROR;
 import static org.slf4j.event.Level.INFO;
+import static org.slf4j.event.Level.WARN;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationMessageProcessTaskTest {
@@ -20,14 +28,26 @@ class NotificationMessageProcessTaskTest {
     @RegisterExtension
     public LogCapturer logs = LogCapturer.create().captureForType(NotificationMessageProcessTask.class);
 
-    @InjectMocks
     private NotificationMessageProcessTask notificationMessageProcessTask;
 
     @Mock
     private ServiceBusProcessorClient serviceBusProcessorClient;
 
+    @Mock
+    private NotificationMessageProcessor notificationMessageProcessor;
+
+    @BeforeEach
+    void setUp() {
+        notificationMessageProcessTask = new NotificationMessageProcessTask(
+            serviceBusProcessorClient,
+            notificationMessageProcessor,
+            200
+        );
+    }
+
     @Test
     void should_log_when_listener_is_not_working() {
+        notificationMessageProcessTask.start();
         given(serviceBusProcessorClient.isRunning()).willReturn(false);
         notificationMessageProcessTask.checkServiceBusProcessorClient();
         assertThat(
@@ -37,10 +57,65 @@ class NotificationMessageProcessTaskTest {
 
     @Test
     void should_log_when_listener_is_working() {
+        notificationMessageProcessTask.start();
         given(serviceBusProcessorClient.isRunning()).willReturn(true);
         notificationMessageProcessTask.checkServiceBusProcessorClient();
         assertThat(
             logs.assertContains(event -> event.getLevel() == INFO, "Info level log not found").getMessage())
             .isEqualTo("Notification queue consume listener is working.");
     }
+
+    @Test
+    void should_not_check_listener_once_stopped() {
+        // given
+        notificationMessageProcessTask.start();
+        given(notificationMessageProcessor.getInFlightMessages()).willReturn(0);
+        notificationMessageProcessTask.stop();
+
+        // when
+        notificationMessageProcessTask.checkServiceBusProcessorClient();
+
+        // then
+        assertThat(notificationMessageProcessTask.isRunning()).isFalse();
+        verify(serviceBusProcessorClient, never()).isRunning();
+    }
+
+    @Test
+    void should_stop_receiving_and_wait_for_messages_in_progress_before_closing() {
+        // given
+        notificationMessageProcessTask.start();
+        given(notificationMessageProcessor.getInFlightMessages()).willReturn(2, 1, 0);
+
+        // when
+        notificationMessageProcessTask.stop();
+
+        // then
+        InOrder inOrder = inOrder(serviceBusProcessorClient, notificationMessageProcessor);
+        inOrder.verify(serviceBusProcessorClient).stop();
+        inOrder.verify(notificationMessageProcessor, times(3)).getInFlightMessages();
+        inOrder.verify(serviceBusProcessorClient).close();
+        logs.assertContains("Notification queue consume listener drained");
+    }
+
+    @Test
+    void should_close_when_messages_are_not_drained_within_timeout() {
+        // given
+        notificationMessageProcessTask.start();
+        given(notificationMessageProcessor.getInFlightMessages()).willReturn(1);
+
+        // when
+        notificationMessageProcessTask.stop();
+
+        // then
+        verify(serviceBusProcessorClient).close();
+        assertThat(
+            logs.assertContains(event -> event.getLevel() == WARN, "Warn level log not found").getMessage())
+            .startsWith("Notification queue consume listener not drained within 200 ms");
+    }
+
+    @Test
+    void should_not_start_processor_until_started_by_lifecycle() {
+        verifyNoInteractions(serviceBusProcessorClient);
+        assertThat(notificationMessageProcessTask.isRunning()).isFalse();
+    }
 }
@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.notificationservice.task;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.notificationservice.service.NotificationPartitionService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceTaskTest {
+
+    @Mock
+    private NotificationPartitionService partitionService;
+
+    @Test
+    void should_call_service_once() {
+        new PartitionMaintenanceTask(partitionService).run();
+
+        verify(partitionService, times(1)).maintainPartitions(any());
+    }
+}
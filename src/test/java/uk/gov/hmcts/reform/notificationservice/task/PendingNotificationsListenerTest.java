@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.notificationservice.task;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PendingNotificationsListenerTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+    private static final Duration DELAY = Duration.ofMinutes(2);
+
+    @Mock
+    private DataSourceProperties dataSourceProperties;
+
+    @Mock
+    private PendingNotificationsTask pendingNotificationsTask;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private PendingNotificationsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new PendingNotificationsListener(
+            dataSourceProperties,
+            pendingNotificationsTask,
+            taskScheduler,
+            2,
+            1000,
+            100,
+            100
+        );
+    }
+
+    @Test
+    void should_schedule_dispatch_when_new_notifications_become_due() {
+        listener.scheduleDispatch(NOW, DELAY);
+
+        verify(taskScheduler).schedule(any(Runnable.class), eq(Instant.parse("2024-05-01T10:02:01Z")));
+    }
+
+    @Test
+    void should_coalesce_notifications_received_within_the_window() {
+        listener.scheduleDispatch(NOW, DELAY);
+        listener.scheduleDispatch(NOW.plusMillis(500), DELAY);
+        listener.scheduleDispatch(NOW.plusMillis(1000), DELAY);
+
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void should_schedule_another_dispatch_for_notifications_received_after_the_window() {
+        listener.scheduleDispatch(NOW, DELAY);
+        listener.scheduleDispatch(NOW.plusMillis(1500), DELAY);
+
+        verify(taskScheduler).schedule(any(Runnable.class), eq(Instant.parse("2024-05-01T10:02:01Z")));
+        verify(taskScheduler).schedule(any(Runnable.class), eq(Instant.parse("2024-05-01T10:02:02.500Z")));
+    }
+
+    @Test
+    void should_schedule_earlier_dispatch_for_notifications_without_delay() {
+        listener.scheduleDispatch(NOW, DELAY);
+        listener.scheduleDispatch(NOW.plusSeconds(5), Duration.ZERO);
+
+        verify(taskScheduler).schedule(any(Runnable.class), eq(Instant.parse("2024-05-01T10:02:01Z")));
+        verify(taskScheduler).schedule(any(Runnable.class), eq(Instant.parse("2024-05-01T10:00:06Z")));
+    }
+
+    @Test
+    void should_coalesce_with_dispatch_scheduled_within_the_window_after_notifications_are_due() {
+        listener.scheduleDispatch(NOW, DELAY);
+        listener.scheduleDispatch(NOW.plusSeconds(60), Duration.ofSeconds(60));
+
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+}
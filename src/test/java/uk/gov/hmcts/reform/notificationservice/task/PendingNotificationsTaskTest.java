@@ -6,6 +6,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.notificationservice.service.NotificationService;
 
+import java.time.Clock;
+
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -19,6 +22,6 @@ class PendingNotificationsTaskTest {
     void should_call_service_once() {
         new PendingNotificationsTask(notificationService).run();
 
-        verify(notificationService, times(1)).processPendingNotifications();
+        verify(notificationService, times(1)).processPendingNotifications(any(Clock.class));
     }
 }
@@ -14,6 +14,7 @@ import java.util.Calendar;
 import java.util.TimeZone;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,8 +50,8 @@ class CustomInstantSerializerTest {
         customInstantSerializer.serialize(instant, jsonGenerator, serializerProvider);
 
         // then
-        var dateStringCaptor = ArgumentCaptor.forClass(String.class);
-        verify(jsonGenerator).writeString(dateStringCaptor.capture());
-        assertThat(dateStringCaptor.getValue()).isEqualTo("2020-03-23T13:17:20");
+        var dateCharsCaptor = ArgumentCaptor.forClass(char[].class);
+        verify(jsonGenerator).writeString(dateCharsCaptor.capture(), eq(0), eq(19));
+        assertThat(new String(dateCharsCaptor.getValue(), 0, 19)).isEqualTo("2020-03-23T13:17:20");
     }
 }
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.notificationservice.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DateFormatterTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        // GMT to BST, 01:00 GMT becomes 02:00 BST
+        "2020-03-29T00:59:59Z, 2020-03-29T00:59:59",
+        "2020-03-29T01:00:00Z, 2020-03-29T02:00:00",
+        // BST to GMT, 02:00 BST becomes 01:00 GMT so the hour repeats
+        "2020-10-25T00:59:59.999Z, 2020-10-25T01:59:59",
+        "2020-10-25T01:00:00Z, 2020-10-25T01:00:00",
+        // day and year change in local time
+        "2020-06-30T23:30:00Z, 2020-07-01T00:30:00",
+        "2020-12-31T23:59:59Z, 2020-12-31T23:59:59",
+        "2021-01-01T00:00:00Z, 2021-01-01T00:00:00",
+        "2024-02-29T12:00:00Z, 2024-02-29T12:00:00"
+    })
+    void should_format_instant_in_london_time(String instant, String expected) {
+        assertThat(DateFormatter.getSimpleDateTime(Instant.parse(instant))).isEqualTo(expected);
+    }
+
+    @Test
+    void should_format_same_as_zoned_date_time_formatter() {
+        // given
+        var formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+        var zone = ZoneId.of("Europe/London");
+        var random = new Random(42);
+        char[] buffer = new char[DateFormatter.MAX_FORMATTED_LENGTH];
+
+        for (int i = 0; i < 10_000; i++) {
+            // 1900 - 2100, back and forth so the cached offset period keeps changing
+            var instant = Instant.ofEpochSecond(
+                -2_208_988_800L + (long) (random.nextDouble() * 6_311_433_600L),
+                random.nextInt(1_000_000_000)
+            );
+
+            // when
+            int length = DateFormatter.format(instant, buffer);
+
+            // then
+            assertThat(new String(buffer, 0, length))
+                .as("formatted %s", instant)
+                .isEqualTo(formatter.format(ZonedDateTime.ofInstant(instant, zone)));
+        }
+    }
+
+    @Test
+    void should_format_years_outside_of_four_digits() {
+        assertThat(DateFormatter.getSimpleDateTime(Instant.parse("+10000-01-01T12:00:00Z")))
+            .isEqualTo("+10000-01-01T12:00:00");
+    }
+}